@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2011-2024 Thomas Akehurst
+ * Copyright (C) 2011-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -461,6 +461,11 @@ public class WireMockServer implements Container, Stubbing, Admin {
     return wireMockApp.getAllScenarios();
   }
 
+  @Override
+  public GetStubStatisticsResult getStubStatistics() {
+    return wireMockApp.getStubStatistics();
+  }
+
   @Override
   public void resetScenario(String name) {
     wireMockApp.resetScenario(name);
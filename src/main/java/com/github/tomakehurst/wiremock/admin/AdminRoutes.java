@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2024 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -113,6 +113,8 @@ public class AdminRoutes {
 
     router.add(GET, "/certs/wiremock-ca.crt", new GetCaCertTask());
 
+    router.add(GET, "/stats/stubs", new GetStubStatisticsTask());
+
     router.add(GET, "/health", new HealthCheckTask());
 
     router.add(GET, "/version", new GetVersionTask());
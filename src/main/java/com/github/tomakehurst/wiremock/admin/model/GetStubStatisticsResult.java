@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.admin.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.github.tomakehurst.wiremock.extension.TransformerStatistics;
+import com.github.tomakehurst.wiremock.extension.responsetemplating.TemplateCacheStatistics;
+import com.github.tomakehurst.wiremock.store.files.BodyFileCacheStatistics;
+import com.github.tomakehurst.wiremock.stubbing.StubStatistics;
+import java.util.List;
+
+public class GetStubStatisticsResult {
+
+  private final List<StubStatistics> stubs;
+  private final long unmatchedCount;
+  private final List<TransformerStatistics> transformers;
+  private final TemplateCacheStatistics templateCache;
+  private final BodyFileCacheStatistics bodyFileCache;
+
+  @JsonCreator
+  public GetStubStatisticsResult(
+      @JsonProperty("stubs") List<StubStatistics> stubs,
+      @JsonProperty("unmatchedCount") long unmatchedCount,
+      @JsonProperty("transformers") List<TransformerStatistics> transformers,
+      @JsonProperty("templateCache") TemplateCacheStatistics templateCache,
+      @JsonProperty("bodyFileCache") BodyFileCacheStatistics bodyFileCache) {
+    this.stubs = stubs;
+    this.unmatchedCount = unmatchedCount;
+    this.transformers = transformers;
+    this.templateCache = templateCache;
+    this.bodyFileCache = bodyFileCache;
+  }
+
+  public List<StubStatistics> getStubs() {
+    return stubs;
+  }
+
+  public long getUnmatchedCount() {
+    return unmatchedCount;
+  }
+
+  public List<TransformerStatistics> getTransformers() {
+    return transformers;
+  }
+
+  public TemplateCacheStatistics getTemplateCache() {
+    return templateCache;
+  }
+
+  public BodyFileCacheStatistics getBodyFileCache() {
+    return bodyFileCache;
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2011-2024 Thomas Akehurst
+ * Copyright (C) 2011-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -309,6 +309,12 @@ public class HttpAdminClient implements Admin {
         adminRoutes.requestSpecForTask(GetAllScenariosTask.class), GetScenariosResult.class);
   }
 
+  @Override
+  public GetStubStatisticsResult getStubStatistics() {
+    return executeRequest(
+        adminRoutes.requestSpecForTask(GetStubStatisticsTask.class), GetStubStatisticsResult.class);
+  }
+
   @Override
   public void resetScenario(String name) {
     executeRequest(
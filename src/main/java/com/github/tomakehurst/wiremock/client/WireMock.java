@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2011-2025 Thomas Akehurst
+ * Copyright (C) 2011-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,6 +28,8 @@ import com.github.tomakehurst.wiremock.common.Json;
 import com.github.tomakehurst.wiremock.common.SingleRootFileSource;
 import com.github.tomakehurst.wiremock.core.Admin;
 import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.extension.TransformerStatistics;
+import com.github.tomakehurst.wiremock.extension.responsetemplating.TemplateCacheStatistics;
 import com.github.tomakehurst.wiremock.global.GlobalSettings;
 import com.github.tomakehurst.wiremock.http.DelayDistribution;
 import com.github.tomakehurst.wiremock.http.Request;
@@ -41,11 +43,13 @@ import com.github.tomakehurst.wiremock.security.ClientAuthenticator;
 import com.github.tomakehurst.wiremock.standalone.RemoteMappingsLoader;
 import com.github.tomakehurst.wiremock.store.InMemorySettingsStore;
 import com.github.tomakehurst.wiremock.store.SettingsStore;
+import com.github.tomakehurst.wiremock.store.files.BodyFileCacheStatistics;
 import com.github.tomakehurst.wiremock.stubbing.Scenario;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import com.github.tomakehurst.wiremock.stubbing.StubImport;
 import com.github.tomakehurst.wiremock.stubbing.StubImportBuilder;
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import com.github.tomakehurst.wiremock.stubbing.StubStatistics;
 import com.github.tomakehurst.wiremock.verification.FindNearMissesResult;
 import com.github.tomakehurst.wiremock.verification.FindRequestsResult;
 import com.github.tomakehurst.wiremock.verification.LoggedRequest;
@@ -470,6 +474,38 @@ public class WireMock {
     return admin.getAllScenarios().getScenarios();
   }
 
+  public static List<StubStatistics> getAllStubStatistics() {
+    return defaultInstance.get().getStubStatistics();
+  }
+
+  public List<StubStatistics> getStubStatistics() {
+    return admin.getStubStatistics().getStubs();
+  }
+
+  public static List<TransformerStatistics> getAllTransformerStatistics() {
+    return defaultInstance.get().getTransformerStatistics();
+  }
+
+  public List<TransformerStatistics> getTransformerStatistics() {
+    return admin.getStubStatistics().getTransformers();
+  }
+
+  public static TemplateCacheStatistics getAllTemplateCacheStatistics() {
+    return defaultInstance.get().getTemplateCacheStatistics();
+  }
+
+  public TemplateCacheStatistics getTemplateCacheStatistics() {
+    return admin.getStubStatistics().getTemplateCache();
+  }
+
+  public static BodyFileCacheStatistics getAllBodyFileCacheStatistics() {
+    return defaultInstance.get().getBodyFileCacheStatistics();
+  }
+
+  public BodyFileCacheStatistics getBodyFileCacheStatistics() {
+    return admin.getStubStatistics().getBodyFileCache();
+  }
+
   public static void resetAllScenarios() {
     defaultInstance.get().resetScenarios();
   }
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2011-2023 Thomas Akehurst
+ * Copyright (C) 2011-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,9 @@ import static com.github.tomakehurst.wiremock.common.Exceptions.throwUnchecked;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
 
 public class BinaryFile implements InputStreamSource {
 
@@ -41,6 +44,11 @@ public class BinaryFile implements InputStreamSource {
     return uri;
   }
 
+  /** The file's location, if it's on the default file system rather than e.g. inside a jar. */
+  public Optional<Path> getFilePath() {
+    return "file".equals(uri.getScheme()) ? Optional.of(Paths.get(uri)) : Optional.empty();
+  }
+
   public String name() {
     return uri.toString();
   }
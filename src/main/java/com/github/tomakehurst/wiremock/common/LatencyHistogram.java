@@ -0,0 +1,177 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.common;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A fixed size, lock-free histogram of latencies, usually in milliseconds. Values below 16 are
+ * counted exactly and larger values are counted in log-linear buckets with a precision of 1/8th of
+ * their power of two, so memory use is constant however many values are recorded.
+ */
+public class LatencyHistogram {
+
+  private static final int LINEAR_BUCKETS = 16;
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int FIRST_LOG_EXPONENT = 4;
+  private static final int BUCKET_COUNT =
+      LINEAR_BUCKETS + (Integer.SIZE - 1 - FIRST_LOG_EXPONENT) * SUB_BUCKETS;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+  private final LongAdder sum = new LongAdder();
+  private final AtomicLong max = new AtomicLong();
+
+  public void record(Integer millis) {
+    if (millis == null) {
+      return;
+    }
+
+    final int value = Math.max(0, millis);
+    counts.incrementAndGet(bucketOf(value));
+    sum.add(value);
+    max.accumulateAndGet(value, Math::max);
+  }
+
+  public Snapshot snapshot() {
+    final long[] snapshotCounts = new long[BUCKET_COUNT];
+    long count = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      snapshotCounts[i] = counts.get(i);
+      count += snapshotCounts[i];
+    }
+
+    final long maxValue = max.get();
+    return new Snapshot(
+        count,
+        count > 0 ? (double) sum.sum() / count : 0,
+        percentile(snapshotCounts, count, 0.5, maxValue),
+        percentile(snapshotCounts, count, 0.9, maxValue),
+        percentile(snapshotCounts, count, 0.99, maxValue),
+        maxValue);
+  }
+
+  private static long percentile(long[] counts, long total, double percentile, long max) {
+    if (total == 0) {
+      return 0;
+    }
+
+    final long rank = (long) Math.ceil(percentile * total);
+    long seen = 0;
+    for (int i = 0; i < counts.length; i++) {
+      seen += counts[i];
+      if (seen >= rank) {
+        return Math.min(highestValueIn(i), max);
+      }
+    }
+
+    return max;
+  }
+
+  static int bucketOf(int value) {
+    if (value < LINEAR_BUCKETS) {
+      return value;
+    }
+
+    final int exponent = Integer.SIZE - 1 - Integer.numberOfLeadingZeros(value);
+    final int subBucket = (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+    return LINEAR_BUCKETS + (exponent - FIRST_LOG_EXPONENT) * SUB_BUCKETS + subBucket;
+  }
+
+  static long highestValueIn(int bucket) {
+    if (bucket < LINEAR_BUCKETS) {
+      return bucket;
+    }
+
+    final int exponent = (bucket - LINEAR_BUCKETS) / SUB_BUCKETS + FIRST_LOG_EXPONENT;
+    final int subBucket = (bucket - LINEAR_BUCKETS) % SUB_BUCKETS;
+    final long width = 1L << (exponent - SUB_BUCKET_BITS);
+    return (SUB_BUCKETS + subBucket) * width + width - 1;
+  }
+
+  public static class Snapshot {
+
+    private final long count;
+    private final double mean;
+    private final long p50;
+    private final long p90;
+    private final long p99;
+    private final long max;
+
+    @JsonCreator
+    public Snapshot(
+        @JsonProperty("count") long count,
+        @JsonProperty("mean") double mean,
+        @JsonProperty("p50") long p50,
+        @JsonProperty("p90") long p90,
+        @JsonProperty("p99") long p99,
+        @JsonProperty("max") long max) {
+      this.count = count;
+      this.mean = mean;
+      this.p50 = p50;
+      this.p90 = p90;
+      this.p99 = p99;
+      this.max = max;
+    }
+
+    public long getCount() {
+      return count;
+    }
+
+    public double getMean() {
+      return mean;
+    }
+
+    public long getP50() {
+      return p50;
+    }
+
+    public long getP90() {
+      return p90;
+    }
+
+    public long getP99() {
+      return p99;
+    }
+
+    public long getMax() {
+      return max;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (o == null || getClass() != o.getClass()) return false;
+      Snapshot snapshot = (Snapshot) o;
+      return count == snapshot.count
+          && Double.compare(snapshot.mean, mean) == 0
+          && p50 == snapshot.p50
+          && p90 == snapshot.p90
+          && p99 == snapshot.p99
+          && max == snapshot.max;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(count, mean, p50, p90, p99, max);
+    }
+  }
+}
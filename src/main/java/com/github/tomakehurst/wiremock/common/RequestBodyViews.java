@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.common;
+
+import static com.github.tomakehurst.wiremock.common.RequestCache.Key.keyFor;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.tomakehurst.wiremock.common.xml.Xml;
+import com.github.tomakehurst.wiremock.common.xml.XmlDocument;
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
+import java.util.function.Supplier;
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.w3c.dom.Document;
+
+/**
+ * Parsed views of a request body, memoised in the current {@link RequestCache} so that however many
+ * stubs have body patterns, each body is only parsed once per request. Failures are memoised too,
+ * and rethrown to every caller. Outside a request, e.g. when verifying in-process, bodies are
+ * parsed afresh each time so that nothing is retained by the calling thread.
+ *
+ * <p>Views are shared between matchers, so must be treated as read only.
+ */
+public class RequestBodyViews {
+
+  private RequestBodyViews() {}
+
+  public static JsonNode json(String body) {
+    return parse(JsonNode.class, body, () -> Json.read(body, JsonNode.class));
+  }
+
+  public static DocumentContext jsonPathDocument(String body) {
+    return parse(DocumentContext.class, body, () -> JsonPath.parse(body));
+  }
+
+  public static XmlDocument xmlDocument(String body) {
+    return parse(XmlDocument.class, body, () -> Xml.parse(body));
+  }
+
+  /** The body parsed with a specific factory, e.g. one that isn't namespace aware. */
+  public static Document dom(String body, DocumentBuilderFactory documentBuilderFactory) {
+    return parse(
+        Document.class, documentBuilderFactory, body, () -> Xml.read(body, documentBuilderFactory));
+  }
+
+  private static <T> T parse(Class<T> viewType, String body, Supplier<T> parser) {
+    return parse(viewType, null, body, parser);
+  }
+
+  private static <T> T parse(Class<T> viewType, Object parserKey, String body, Supplier<T> parser) {
+    if (!RequestCache.isActive()) {
+      return parser.get();
+    }
+
+    final ParseResult<T> result =
+        RequestCache.getCurrent()
+            .get(
+                keyFor(RequestBodyViews.class, viewType, parserKey, body),
+                () -> ParseResult.of(parser));
+    return result.get();
+  }
+
+  private static class ParseResult<T> {
+    private final T value;
+    private final RuntimeException failure;
+
+    private ParseResult(T value, RuntimeException failure) {
+      this.value = value;
+      this.failure = failure;
+    }
+
+    static <T> ParseResult<T> of(Supplier<T> parser) {
+      try {
+        return new ParseResult<>(parser.get(), null);
+      } catch (RuntimeException e) {
+        return new ParseResult<>(null, e);
+      }
+    }
+
+    T get() {
+      if (failure != null) {
+        throw failure;
+      }
+
+      return value;
+    }
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2020-2024 Thomas Akehurst
+ * Copyright (C) 2020-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -53,6 +53,23 @@ public class RequestCache {
     return requestCache;
   }
 
+  /**
+   * Starts a fresh cache for a request being handled on this thread. Until {@link #onRequestEnd()}
+   * is called, {@link #isActive()} returns true.
+   */
+  public static void onRequestStart() {
+    current.set(new RequestCache(true));
+  }
+
+  /**
+   * Whether a request is being handled on this thread. Callers that would otherwise cache large
+   * values outside a request, e.g. during in-process verification, should compute them uncached.
+   */
+  public static boolean isActive() {
+    final RequestCache requestCache = current.get();
+    return requestCache != null && requestCache.requestScoped;
+  }
+
   public static void onRequestEnd() {
     current.remove();
   }
@@ -62,6 +79,15 @@ public class RequestCache {
   }
 
   private final Map<Key, Object> cache = new HashMap<>();
+  private final boolean requestScoped;
+
+  public RequestCache() {
+    this(false);
+  }
+
+  private RequestCache(boolean requestScoped) {
+    this.requestScoped = requestScoped;
+  }
 
   public void put(Key key, Object value) {
     cache.put(key, value);
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2018-2024 Thomas Akehurst
+ * Copyright (C) 2018-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,7 +19,11 @@ import com.github.tomakehurst.wiremock.admin.NotFoundException;
 import com.github.tomakehurst.wiremock.store.BlobStore;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 public class StreamSources {
   private StreamSources() {}
@@ -32,6 +36,11 @@ public class StreamSources {
     return new ByteArrayInputStreamSource(bytes);
   }
 
+  /** Bytes whose gzipped copy comes from, and can be kept by, the supplier. */
+  public static InputStreamSource forBytes(final byte[] bytes, final Supplier<byte[]> gzipped) {
+    return new GzippableByteArrayInputStreamSource(bytes, gzipped);
+  }
+
   public static InputStreamSource forBlobStoreItem(BlobStore blobStore, String key) {
     return () ->
         blobStore
@@ -39,6 +48,39 @@ public class StreamSources {
             .orElseThrow(() -> new NotFoundException("Not found in blob store: " + key));
   }
 
+  /**
+   * A source whose content is a file on the default file system, so it can be sent without being
+   * read through a stream. Streams still come from the wrapped source, so e.g. a missing file is
+   * reported the same way.
+   */
+  public static class FileInputStreamSource implements InputStreamSource {
+
+    private final Path path;
+    private final InputStreamSource streamSource;
+    private final Supplier<Optional<ByteBuffer>> mappedContents;
+
+    public FileInputStreamSource(
+        Path path, InputStreamSource streamSource, Supplier<Optional<ByteBuffer>> mappedContents) {
+      this.path = path;
+      this.streamSource = streamSource;
+      this.mappedContents = mappedContents;
+    }
+
+    public Path getPath() {
+      return path;
+    }
+
+    /** The file's current contents memory mapped, if it can be. */
+    public Optional<ByteBuffer> getMappedContents() {
+      return mappedContents.get();
+    }
+
+    @Override
+    public InputStream getStream() {
+      return streamSource.getStream();
+    }
+  }
+
   public static class StringInputStreamSource extends ByteArrayInputStreamSource {
 
     public StringInputStreamSource(String string, Charset charset) {
@@ -58,6 +100,26 @@ public class StreamSources {
     public InputStream getStream() {
       return bytes == null ? null : new ByteArrayInputStream(bytes);
     }
+
+    public int getLength() {
+      return bytes == null ? 0 : bytes.length;
+    }
+  }
+
+  public static class GzippableByteArrayInputStreamSource extends ByteArrayInputStreamSource
+      implements GzippableInputStreamSource {
+
+    private final Supplier<byte[]> gzipped;
+
+    public GzippableByteArrayInputStreamSource(byte[] bytes, Supplier<byte[]> gzipped) {
+      super(bytes);
+      this.gzipped = gzipped;
+    }
+
+    @Override
+    public byte[] getGzippedBytes() {
+      return gzipped.get();
+    }
   }
 
   public static InputStreamSource empty() {
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2024 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -85,6 +85,11 @@ public class PathTemplate {
     return renderer.render(pathParams);
   }
 
+  public String staticPrefix() {
+    Matcher matcher = SPECIAL_SYMBOL_REGEX.matcher(templateString);
+    return matcher.find() ? templateString.substring(0, matcher.start()) : templateString;
+  }
+
   public String withoutVariables() {
     return templateString.replaceAll(SPECIAL_SYMBOL_REGEX.pattern(), "_");
   }
@@ -114,6 +119,10 @@ public class PathTemplate {
   public int numberOfParameters() {
     return parser.numberOfParameters();
   }
+
+  List<String> parameterNames() {
+    return parser.parameterNames();
+  }
 }
 
 class Parser {
@@ -147,6 +156,10 @@ class Parser {
   int numberOfParameters() {
     return templateParameters.size();
   }
+
+  List<String> parameterNames() {
+    return templateParameters;
+  }
 }
 
 class ParserBuilder {
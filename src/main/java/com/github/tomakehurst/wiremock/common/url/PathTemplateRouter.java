@@ -0,0 +1,247 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.common.url;
+
+import static com.github.tomakehurst.wiremock.common.url.PathTemplate.SPECIAL_SYMBOL_REGEX;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+
+/**
+ * A segment trie over a set of path templates, resolving a path to every template that matches it
+ * (along with the extracted path parameters) in a single walk of the path's segments rather than
+ * evaluating each template's regex in turn.
+ *
+ * <p>Only templates made up of whole-segment literals and variables, optionally ending in a <code>
+ * **</code> wildcard segment, can be routed. See {@link #isRoutable(PathTemplate)}.
+ */
+public class PathTemplateRouter<T> {
+
+  private final Node<T> root = new Node<>();
+
+  public static boolean isRoutable(PathTemplate pathTemplate) {
+    final String[] segments = pathTemplate.toString().split("/", -1);
+    for (int i = 0; i < segments.length; i++) {
+      final SegmentType type = SegmentType.of(segments[i]);
+      if (type == SegmentType.MIXED || (type == SegmentType.WILDCARD && i < segments.length - 1)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  public void add(PathTemplate pathTemplate, T value) {
+    if (!isRoutable(pathTemplate)) {
+      throw new IllegalArgumentException(pathTemplate + " cannot be routed by segment");
+    }
+
+    final String[] segments = pathTemplate.toString().split("/", -1);
+    Node<T> node = root;
+    for (String segment : segments) {
+      final SegmentType type = SegmentType.of(segment);
+      if (type == SegmentType.WILDCARD) {
+        node.wildcardValues
+            .computeIfAbsent(pathTemplate, t -> ConcurrentHashMap.newKeySet())
+            .add(value);
+        return;
+      }
+
+      node =
+          type == SegmentType.VARIABLE
+              ? node.variable()
+              : node.literals.computeIfAbsent(segment, s -> new Node<>());
+    }
+
+    node.values.computeIfAbsent(pathTemplate, t -> ConcurrentHashMap.newKeySet()).add(value);
+  }
+
+  public void remove(PathTemplate pathTemplate, T value) {
+    if (!isRoutable(pathTemplate)) {
+      return;
+    }
+
+    final String[] segments = pathTemplate.toString().split("/", -1);
+    Node<T> node = root;
+    for (String segment : segments) {
+      final SegmentType type = SegmentType.of(segment);
+      if (type == SegmentType.WILDCARD) {
+        removeFrom(node.wildcardValues, pathTemplate, value);
+        return;
+      }
+
+      node = type == SegmentType.VARIABLE ? node.variable : node.literals.get(segment);
+      if (node == null) {
+        return;
+      }
+    }
+
+    removeFrom(node.values, pathTemplate, value);
+  }
+
+  private static <T> void removeFrom(
+      Map<PathTemplate, Set<T>> valuesByTemplate, PathTemplate pathTemplate, T value) {
+    final Set<T> values = valuesByTemplate.get(pathTemplate);
+    if (values != null) {
+      values.remove(value);
+    }
+  }
+
+  public void clear() {
+    root.literals.clear();
+    root.variable = null;
+    root.values.clear();
+    root.wildcardValues.clear();
+  }
+
+  /** Returns every routed value whose template matches the path, in no particular order. */
+  public List<Route<T>> route(String path) {
+    if (path == null) {
+      return Collections.emptyList();
+    }
+
+    final List<String> segments = new ArrayList<>();
+    final List<Integer> segmentStarts = new ArrayList<>();
+    int start = 0;
+    for (int end = path.indexOf('/'); end >= 0; end = path.indexOf('/', start)) {
+      segments.add(path.substring(start, end));
+      segmentStarts.add(start);
+      start = end + 1;
+    }
+    segments.add(path.substring(start));
+    segmentStarts.add(start);
+
+    final List<Route<T>> routes = new ArrayList<>();
+    walk(root, path, segments, segmentStarts, 0, new ArrayList<>(), routes);
+    return routes;
+  }
+
+  private void walk(
+      Node<T> node,
+      String path,
+      List<String> segments,
+      List<Integer> segmentStarts,
+      int index,
+      List<String> captured,
+      List<Route<T>> routes) {
+    if (index == segments.size()) {
+      collect(node.values, captured, routes);
+      return;
+    }
+
+    if (!node.wildcardValues.isEmpty()) {
+      captured.add(path.substring(segmentStarts.get(index)));
+      collect(node.wildcardValues, captured, routes);
+      captured.remove(captured.size() - 1);
+    }
+
+    final String segment = segments.get(index);
+    final Node<T> literal = node.literals.get(segment);
+    if (literal != null) {
+      walk(literal, path, segments, segmentStarts, index + 1, captured, routes);
+    }
+
+    final Node<T> variable = node.variable;
+    if (variable != null && !segment.isEmpty()) {
+      captured.add(segment);
+      walk(variable, path, segments, segmentStarts, index + 1, captured, routes);
+      captured.remove(captured.size() - 1);
+    }
+  }
+
+  private static <T> void collect(
+      Map<PathTemplate, Set<T>> valuesByTemplate, List<String> captured, List<Route<T>> routes) {
+    valuesByTemplate.forEach(
+        (pathTemplate, values) -> {
+          if (values.isEmpty()) {
+            return;
+          }
+
+          final List<String> parameterNames = pathTemplate.parameterNames();
+          final PathParams pathParams = new PathParams();
+          for (int i = 0; i < parameterNames.size(); i++) {
+            pathParams.put(parameterNames.get(i), captured.get(i));
+          }
+
+          for (T value : values) {
+            routes.add(new Route<>(value, pathTemplate, pathParams));
+          }
+        });
+  }
+
+  public static class Route<T> {
+    private final T value;
+    private final PathTemplate pathTemplate;
+    private final PathParams pathParams;
+
+    Route(T value, PathTemplate pathTemplate, PathParams pathParams) {
+      this.value = value;
+      this.pathTemplate = pathTemplate;
+      this.pathParams = pathParams;
+    }
+
+    public T getValue() {
+      return value;
+    }
+
+    public PathTemplate getPathTemplate() {
+      return pathTemplate;
+    }
+
+    public PathParams getPathParams() {
+      return pathParams;
+    }
+  }
+
+  private enum SegmentType {
+    LITERAL,
+    VARIABLE,
+    WILDCARD,
+    MIXED;
+
+    static SegmentType of(String segment) {
+      final Matcher matcher = SPECIAL_SYMBOL_REGEX.matcher(segment);
+      if (!matcher.find()) {
+        return LITERAL;
+      }
+
+      if (matcher.start() != 0 || matcher.end() != segment.length()) {
+        return MIXED;
+      }
+
+      return matcher.group("wildcard") != null ? WILDCARD : VARIABLE;
+    }
+  }
+
+  private static class Node<T> {
+    final Map<String, Node<T>> literals = new ConcurrentHashMap<>();
+    final Map<PathTemplate, Set<T>> values = new ConcurrentHashMap<>();
+    final Map<PathTemplate, Set<T>> wildcardValues = new ConcurrentHashMap<>();
+    volatile Node<T> variable;
+
+    synchronized Node<T> variable() {
+      if (variable == null) {
+        variable = new Node<>();
+      }
+      return variable;
+    }
+  }
+}
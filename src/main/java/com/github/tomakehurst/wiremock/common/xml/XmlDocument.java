@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2020-2024 Thomas Akehurst
+ * Copyright (C) 2020-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,13 +16,16 @@
 package com.github.tomakehurst.wiremock.common.xml;
 
 import com.github.tomakehurst.wiremock.common.ListOrSingle;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import javax.xml.XMLConstants;
 import javax.xml.namespace.NamespaceContext;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathEvaluationResult;
+import javax.xml.xpath.XPathExpression;
 import javax.xml.xpath.XPathExpressionException;
 import org.w3c.dom.Document;
 import org.xmlunit.util.Convert;
@@ -42,19 +45,14 @@ public class XmlDocument extends XmlDomNode {
 
   public ListOrSingle<XmlNode> findNodes(String xPathExpression, Map<String, String> namespaces) {
     try {
-      final XPath xPath = XPATH_CACHE.get();
-      xPath.reset();
+      final XPathExpression compiledExpression = compile(xPathExpression, namespaces);
 
       XPathEvaluationResult<?> xPathEvaluationResult;
       if (namespaces != null) {
-        Map<String, String> fullNamespaces = addStandardNamespaces(namespaces);
-        NamespaceContext namespaceContext = Convert.toNamespaceContext(fullNamespaces);
-        xPath.setNamespaceContext(namespaceContext);
         xPathEvaluationResult =
-            xPath.evaluateExpression(
-                xPathExpression, Convert.toInputSource(new DOMSource(document)));
+            compiledExpression.evaluateExpression(Convert.toInputSource(new DOMSource(document)));
       } else {
-        xPathEvaluationResult = xPath.evaluateExpression(xPathExpression, document);
+        xPathEvaluationResult = compiledExpression.evaluateExpression(document);
       }
 
       return toListOrSingle(xPathEvaluationResult);
@@ -63,6 +61,29 @@ public class XmlDocument extends XmlDomNode {
     }
   }
 
+  private static XPathExpression compile(String xPathExpression, Map<String, String> namespaces)
+      throws XPathExpressionException {
+    final Map<List<Object>, XPathExpression> cache = XPATH_EXPRESSION_CACHE.get();
+    final List<Object> key = Arrays.asList(xPathExpression, namespaces);
+    XPathExpression compiledExpression = cache.get(key);
+    if (compiledExpression == null) {
+      final XPath xPath = XPATH_CACHE.get();
+      xPath.reset();
+      if (namespaces != null) {
+        Map<String, String> fullNamespaces = addStandardNamespaces(namespaces);
+        NamespaceContext namespaceContext = Convert.toNamespaceContext(fullNamespaces);
+        xPath.setNamespaceContext(namespaceContext);
+      }
+
+      compiledExpression = xPath.compile(xPathExpression);
+      cache.put(
+          Arrays.asList(xPathExpression, namespaces != null ? Map.copyOf(namespaces) : null),
+          compiledExpression);
+    }
+
+    return compiledExpression;
+  }
+
   private static Map<String, String> addStandardNamespaces(Map<String, String> namespaces) {
     Map<String, String> result = new HashMap<String, String>();
     for (String prefix : namespaces.keySet()) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2020-2024 Thomas Akehurst
+ * Copyright (C) 2020-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,12 +20,15 @@ import static javax.xml.transform.OutputKeys.INDENT;
 import static javax.xml.transform.OutputKeys.OMIT_XML_DECLARATION;
 
 import com.github.tomakehurst.wiremock.common.ListOrSingle;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathEvaluationResult;
+import javax.xml.xpath.XPathExpression;
 import javax.xml.xpath.XPathFactory;
 import org.w3c.dom.Node;
 
@@ -38,6 +41,20 @@ public abstract class XmlNode {
             return xPathfactory.newXPath();
           });
 
+  private static final int MAX_CACHED_XPATH_EXPRESSIONS = 1000;
+
+  // XPathExpression is NOT thread safe, so compiled expressions are cached per thread
+  protected static final ThreadLocal<Map<List<Object>, XPathExpression>> XPATH_EXPRESSION_CACHE =
+      ThreadLocal.withInitial(
+          () ->
+              new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(
+                    Map.Entry<List<Object>, XPathExpression> eldest) {
+                  return size() > MAX_CACHED_XPATH_EXPRESSIONS;
+                }
+              });
+
   protected static final ThreadLocal<Transformer> TRANSFORMER_CACHE =
       ThreadLocal.withInitial(
           () -> {
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2011-2023 Thomas Akehurst
+ * Copyright (C) 2011-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -80,6 +80,8 @@ public interface Admin {
 
   GetScenariosResult getAllScenarios();
 
+  GetStubStatisticsResult getStubStatistics();
+
   void resetScenario(String name);
 
   void setScenarioState(String name, String state);
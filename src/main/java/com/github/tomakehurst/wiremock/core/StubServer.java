@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2012-2023 Thomas Akehurst
+ * Copyright (C) 2012-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,4 +20,6 @@ import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 public interface StubServer {
 
   ServeEvent serveStubFor(ServeEvent serveEvent);
+
+  default void serveCompleted(ServeEvent serveEvent) {}
 }
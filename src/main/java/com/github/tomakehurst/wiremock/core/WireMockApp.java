@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2012-2024 Thomas Akehurst
+ * Copyright (C) 2012-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -37,6 +37,7 @@ import com.github.tomakehurst.wiremock.standalone.MappingsLoader;
 import com.github.tomakehurst.wiremock.store.DefaultStores;
 import com.github.tomakehurst.wiremock.store.SettingsStore;
 import com.github.tomakehurst.wiremock.store.Stores;
+import com.github.tomakehurst.wiremock.store.files.FileSourceBlobStore;
 import com.github.tomakehurst.wiremock.stubbing.*;
 import com.github.tomakehurst.wiremock.verification.*;
 import com.jayway.jsonpath.JsonPathException;
@@ -67,6 +68,8 @@ public class WireMockApp implements StubServer, Admin {
   private final List<GlobalSettingsListener> globalSettingsListeners;
   private final Map<String, MappingsLoaderExtension> mappingsLoaderExtensions;
   private final Map<String, ServeEventListener> serveEventListeners;
+  private final StubServeStatistics stubServeStatistics = new StubServeStatistics();
+  private final TransformerTimings transformerTimings = new TransformerTimings();
 
   private Options options;
 
@@ -130,7 +133,8 @@ public class WireMockApp implements StubServer, Admin {
             extensions.ofType(ResponseDefinitionTransformerV2.class),
             stores.getFilesBlobStore(),
             List.copyOf(extensions.ofType(StubLifecycleListener.class).values()),
-            serveEventListeners);
+            serveEventListeners,
+            transformerTimings);
     nearMissCalculator =
         new NearMissCalculator(stubMappings, requestJournal, scenarios, customMatchers);
     recorder =
@@ -156,7 +160,7 @@ public class WireMockApp implements StubServer, Admin {
       FileSource rootFileSource,
       Container container) {
 
-    this.stores = new DefaultStores(rootFileSource);
+    this.stores = new DefaultStores(rootFileSource, maxRequestJournalEntries);
 
     this.browserProxyingEnabled = browserProxyingEnabled;
     this.defaultMappingsLoader = defaultMappingsLoader;
@@ -181,7 +185,8 @@ public class WireMockApp implements StubServer, Admin {
             v2transformers,
             stores.getFilesBlobStore(),
             Collections.emptyList(),
-            serveEventListeners);
+            serveEventListeners,
+            transformerTimings);
     this.container = container;
     nearMissCalculator =
         new NearMissCalculator(stubMappings, requestJournal, scenarios, requestMatchers);
@@ -242,7 +247,8 @@ public class WireMockApp implements StubServer, Admin {
                 reverseProxyClient,
                 forwardProxyClient),
             List.copyOf(extensions.ofType(ResponseTransformer.class).values()),
-            List.copyOf(extensions.ofType(ResponseTransformerV2.class).values())),
+            List.copyOf(extensions.ofType(ResponseTransformerV2.class).values()),
+            transformerTimings),
         this,
         postServeActions,
         serveEventListeners,
@@ -303,6 +309,11 @@ public class WireMockApp implements StubServer, Admin {
     return serveEvent;
   }
 
+  @Override
+  public void serveCompleted(ServeEvent serveEvent) {
+    stubServeStatistics.record(serveEvent);
+  }
+
   @Override
   public void addStubMapping(StubMapping stubMapping) {
     if (stubMapping.getId() == null) {
@@ -327,6 +338,7 @@ public class WireMockApp implements StubServer, Admin {
             });
 
     stubMappings.removeMapping(stubMapping);
+    stubServeStatistics.remove(stubMapping.getId());
   }
 
   @Override
@@ -374,6 +386,8 @@ public class WireMockApp implements StubServer, Admin {
   @Override
   public void resetToDefaultMappings() {
     stubMappings.reset();
+    stubServeStatistics.reset();
+    transformerTimings.reset();
     resetRequests();
     loadDefaultMappings();
   }
@@ -387,6 +401,8 @@ public class WireMockApp implements StubServer, Admin {
   public void resetMappings() {
     mappingsSaver.removeAll();
     stubMappings.reset();
+    stubServeStatistics.reset();
+    transformerTimings.reset();
   }
 
   @Override
@@ -397,7 +413,11 @@ public class WireMockApp implements StubServer, Admin {
   @Override
   public GetServeEventsResult getServeEvents(ServeEventQuery query) {
     try {
-      final List<ServeEvent> serveEvents = query.filter(requestJournal.getAllServeEvents());
+      final List<ServeEvent> serveEvents =
+          query.filter(
+              query.getStubMappingId() != null
+                  ? requestJournal.getServeEventsForStubMapping(query.getStubMappingId())
+                  : requestJournal.getAllServeEvents());
       return GetServeEventsResult.requestJournalEnabled(LimitAndOffsetPaginator.none(serveEvents));
     } catch (RequestJournalDisabledException e) {
       return GetServeEventsResult.requestJournalDisabled(
@@ -475,6 +495,18 @@ public class WireMockApp implements StubServer, Admin {
     return new FindNearMissesResult(nearMisses);
   }
 
+  @Override
+  public GetStubStatisticsResult getStubStatistics() {
+    return new GetStubStatisticsResult(
+        stubServeStatistics.getAll(),
+        stubServeStatistics.getUnmatchedCount(),
+        transformerTimings.getAll(),
+        extensions != null ? extensions.getTemplateEngine().getCacheStatistics() : null,
+        stores.getFilesBlobStore() instanceof FileSourceBlobStore
+            ? ((FileSourceBlobStore) stores.getFilesBlobStore()).getBodyFileCacheStatistics()
+            : null);
+  }
+
   @Override
   public GetScenariosResult getAllScenarios() {
     return new GetScenariosResult(stubMappings.getAllScenarios());
@@ -610,7 +642,7 @@ public class WireMockApp implements StubServer, Admin {
     }
 
     if (importOptions.getDeleteAllNotInImport()) {
-      List<UUID> ids = mappings.stream().map(StubMapping::getId).collect(Collectors.toList());
+      Set<UUID> ids = mappings.stream().map(StubMapping::getId).collect(Collectors.toSet());
       for (StubMapping mapping : listAllStubMappings().getMappings()) {
         if (!ids.contains(mapping.getId())) {
           removeStubMapping(mapping);
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2023 Thomas Akehurst
+ * Copyright (C) 2023-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,4 +20,17 @@ import java.util.Map;
 
 public interface TemplateModelDataProviderExtension extends Extension {
   Map<String, Object> provideTemplateModelData(ServeEvent serveEvent);
+
+  /**
+   * Whether the data this provides might include a model root with the given name. Providers are
+   * only called for a request once a template looks up a root that one of them might provide, so
+   * overriding this to name the roots actually provided means templates that only use other roots,
+   * e.g. {@code request}, are rendered without calling the provider. A provider that does so must
+   * not return any other roots.
+   *
+   * <p>Returns true by default, so a provider is called for any template that looks up a root.
+   */
+  default boolean providesRoot(String name) {
+    return true;
+  }
 }
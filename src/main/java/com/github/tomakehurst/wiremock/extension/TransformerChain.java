@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.extension;
+
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * The transformers of one kind, in the order they run. The transformers that apply to a response
+ * definition depend only on the names it lists, so each distinct list of names is resolved to its
+ * chain once and reused for every stub and request with the same list. A transformer that changes
+ * the names on the definition it returns can use {@link #resolveAfter(Extension,
+ * ResponseDefinition)} to find the rest of the chain for the new names.
+ *
+ * <p>Running a transformer via {@link #time(Extension, Supplier)} records how long it took in the
+ * shared {@link TransformerTimings}.
+ */
+public class TransformerChain<T extends Extension> {
+
+  // Names are set per stub, so this is only reached by something generating them
+  private static final int MAX_RESOLVED_CHAINS = 1000;
+
+  private final List<T> transformers;
+  private final Predicate<T> appliesGlobally;
+  private final TransformerTimings timings;
+  private final Map<List<String>, List<T>> resolvedChains = new ConcurrentHashMap<>();
+
+  public TransformerChain(
+      List<T> transformers, Predicate<T> appliesGlobally, TransformerTimings timings) {
+    this.transformers = List.copyOf(transformers);
+    this.appliesGlobally = appliesGlobally;
+    this.timings = timings;
+  }
+
+  /** The transformers that apply to the response definition, in the order they should run. */
+  public List<T> resolve(ResponseDefinition responseDefinition) {
+    final List<String> names =
+        responseDefinition.hasTransformers() ? responseDefinition.getTransformers() : List.of();
+
+    final List<T> cached = resolvedChains.get(names);
+    if (cached != null) {
+      return cached;
+    }
+
+    final List<T> chain = resolve(names);
+    if (resolvedChains.size() < MAX_RESOLVED_CHAINS) {
+      resolvedChains.putIfAbsent(List.copyOf(names), chain);
+    }
+    return chain;
+  }
+
+  /**
+   * The transformers that apply to the response definition and are registered after {@code
+   * previous}, for when {@code previous} has changed the names listed on the definition.
+   */
+  public List<T> resolveAfter(T previous, ResponseDefinition responseDefinition) {
+    final int previousPosition = transformers.indexOf(previous);
+    final List<T> chain = resolve(responseDefinition);
+    int start = 0;
+    while (start < chain.size() && transformers.indexOf(chain.get(start)) <= previousPosition) {
+      start++;
+    }
+    return chain.subList(start, chain.size());
+  }
+
+  private List<T> resolve(List<String> names) {
+    final List<T> chain = new ArrayList<>();
+    for (T transformer : transformers) {
+      if (appliesGlobally.test(transformer) || names.contains(transformer.getName())) {
+        chain.add(transformer);
+      }
+    }
+    return List.copyOf(chain);
+  }
+
+  public <R> R time(T transformer, Supplier<R> transformation) {
+    final long start = System.nanoTime();
+    try {
+      return transformation.get();
+    } finally {
+      timings.record(transformer.getName(), System.nanoTime() - start);
+    }
+  }
+}
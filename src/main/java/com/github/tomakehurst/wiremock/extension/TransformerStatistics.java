@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.extension;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.github.tomakehurst.wiremock.common.LatencyHistogram;
+
+public class TransformerStatistics {
+
+  private final String name;
+  private final LatencyHistogram.Snapshot transformTimeMicros;
+
+  @JsonCreator
+  public TransformerStatistics(
+      @JsonProperty("name") String name,
+      @JsonProperty("transformTimeMicros") LatencyHistogram.Snapshot transformTimeMicros) {
+    this.name = name;
+    this.transformTimeMicros = transformTimeMicros;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public LatencyHistogram.Snapshot getTransformTimeMicros() {
+    return transformTimeMicros;
+  }
+}
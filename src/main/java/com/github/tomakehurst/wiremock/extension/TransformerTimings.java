@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.extension;
+
+import com.github.tomakehurst.wiremock.common.LatencyHistogram;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * How long each transformer has taken, by extension name, across every kind of transformer. Times
+ * are recorded in microseconds, as most transformers take well under a millisecond.
+ */
+public class TransformerTimings {
+
+  private final Map<String, LatencyHistogram> timings = new ConcurrentHashMap<>();
+
+  void record(String transformerName, long nanos) {
+    final long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+    timings
+        .computeIfAbsent(transformerName, name -> new LatencyHistogram())
+        .record((int) Math.min(micros, Integer.MAX_VALUE));
+  }
+
+  public List<TransformerStatistics> getAll() {
+    return timings.entrySet().stream()
+        .map(entry -> new TransformerStatistics(entry.getKey(), entry.getValue().snapshot()))
+        .sorted(Comparator.comparing(TransformerStatistics::getName))
+        .collect(Collectors.toList());
+  }
+
+  public void reset() {
+    timings.clear();
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2019-2024 Thomas Akehurst
+ * Copyright (C) 2019-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,8 @@
  */
 package com.github.tomakehurst.wiremock.extension.responsetemplating;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import com.github.jknack.handlebars.Context;
 import com.github.jknack.handlebars.Handlebars;
 import com.github.jknack.handlebars.Template;
@@ -23,6 +25,7 @@ import com.github.tomakehurst.wiremock.common.RequestCache;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.util.Arrays;
 
 public class HandlebarsOptimizedTemplate {
 
@@ -32,6 +35,10 @@ public class HandlebarsOptimizedTemplate {
   private String templateContent;
   private String endContent;
 
+  // Pre-encoded so rendering to bytes only has to encode the templated part
+  private final byte[] startBytes;
+  private final byte[] endBytes;
+
   public HandlebarsOptimizedTemplate(final Handlebars handlebars, final String content) {
     startContent = content;
     templateContent = "";
@@ -50,6 +57,8 @@ public class HandlebarsOptimizedTemplate {
     }
 
     this.template = uncheckedCompileTemplate(handlebars, templateContent);
+    this.startBytes = startContent.getBytes(UTF_8);
+    this.endBytes = endContent.getBytes(UTF_8);
   }
 
   private static Template uncheckedCompileTemplate(Handlebars handlebars, String templateContent) {
@@ -61,10 +70,32 @@ public class HandlebarsOptimizedTemplate {
   }
 
   public String apply(Object contextData) {
-    final RequestCache requestCache = RequestCache.getCurrent();
-    Context context = Context.newBuilder(contextData).combine("requestCache", requestCache).build();
+    return startContent + applyTemplate(buildContext(contextData)) + endContent;
+  }
+
+  /**
+   * Renders the template as UTF-8, equivalent to encoding the result of {@link #apply(Object)} but
+   * without building any intermediate Strings.
+   */
+  public byte[] applyAsBytes(Object contextData) {
+    if (templateContent.isEmpty()) {
+      return Arrays.copyOf(startBytes, startBytes.length);
+    }
 
-    return startContent + applyTemplate(context) + endContent;
+    final Utf8BufferWriter writer = Utf8BufferWriter.acquire();
+    try {
+      writer.writeBytes(startBytes);
+      Exceptions.uncheck(() -> template.apply(buildContext(contextData), writer));
+      writer.writeBytes(endBytes);
+      return writer.toByteArray();
+    } finally {
+      writer.release();
+    }
+  }
+
+  private static Context buildContext(Object contextData) {
+    final RequestCache requestCache = RequestCache.getCurrent();
+    return Context.newBuilder(contextData).combine("requestCache", requestCache).build();
   }
 
   private String applyTemplate(Context context) {
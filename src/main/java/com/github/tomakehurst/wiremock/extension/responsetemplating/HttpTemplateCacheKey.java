@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2019-2021 Thomas Akehurst
+ * Copyright (C) 2019-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@ package com.github.tomakehurst.wiremock.extension.responsetemplating;
 
 import com.github.tomakehurst.wiremock.http.ResponseDefinition;
 import java.util.Objects;
+import java.util.UUID;
 
 public class HttpTemplateCacheKey {
 
@@ -26,45 +27,79 @@ public class HttpTemplateCacheKey {
     HEADER
   }
 
+  private final UUID stubId;
   private final ResponseDefinition responseDefinition;
   private final ResponseElement element;
   private final String name;
   private final Integer index;
 
   public static HttpTemplateCacheKey forInlineBody(ResponseDefinition responseDefinition) {
-    return new HttpTemplateCacheKey(responseDefinition, ResponseElement.BODY, "[inlineBody]", null);
+    return forInlineBody(null, responseDefinition);
+  }
+
+  public static HttpTemplateCacheKey forInlineBody(
+      UUID stubId, ResponseDefinition responseDefinition) {
+    return new HttpTemplateCacheKey(
+        stubId, responseDefinition, ResponseElement.BODY, "[inlineBody]", null);
   }
 
   public static HttpTemplateCacheKey forFileBody(
       ResponseDefinition responseDefinition, String filename) {
-    return new HttpTemplateCacheKey(responseDefinition, ResponseElement.BODY, filename, null);
+    return forFileBody(null, responseDefinition, filename);
+  }
+
+  public static HttpTemplateCacheKey forFileBody(
+      UUID stubId, ResponseDefinition responseDefinition, String filename) {
+    return new HttpTemplateCacheKey(
+        stubId, responseDefinition, ResponseElement.BODY, filename, null);
   }
 
   public static HttpTemplateCacheKey forHeader(
       ResponseDefinition responseDefinition, String headerName, int valueIndex) {
+    return forHeader(null, responseDefinition, headerName, valueIndex);
+  }
+
+  public static HttpTemplateCacheKey forHeader(
+      UUID stubId, ResponseDefinition responseDefinition, String headerName, int valueIndex) {
     return new HttpTemplateCacheKey(
-        responseDefinition, ResponseElement.HEADER, headerName, valueIndex);
+        stubId, responseDefinition, ResponseElement.HEADER, headerName, valueIndex);
   }
 
   public static HttpTemplateCacheKey forProxyUrl(ResponseDefinition responseDefinition) {
+    return forProxyUrl(null, responseDefinition);
+  }
+
+  public static HttpTemplateCacheKey forProxyUrl(
+      UUID stubId, ResponseDefinition responseDefinition) {
     return new HttpTemplateCacheKey(
-        responseDefinition, ResponseElement.PROXY_URL, "[proxyUrl]", null);
+        stubId, responseDefinition, ResponseElement.PROXY_URL, "[proxyUrl]", null);
   }
 
   private HttpTemplateCacheKey(
-      ResponseDefinition responseDefinition, ResponseElement element, String name, Integer index) {
+      UUID stubId,
+      ResponseDefinition responseDefinition,
+      ResponseElement element,
+      String name,
+      Integer index) {
+    this.stubId = stubId;
     this.responseDefinition = responseDefinition;
     this.element = element;
     this.name = name;
     this.index = index;
   }
 
+  /** The stub the template belongs to, if any, so its entries can be invalidated on their own. */
+  public UUID getStubId() {
+    return stubId;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
     if (o == null || getClass() != o.getClass()) return false;
     HttpTemplateCacheKey that = (HttpTemplateCacheKey) o;
-    return responseDefinition.equals(that.responseDefinition)
+    return Objects.equals(stubId, that.stubId)
+        && responseDefinition.equals(that.responseDefinition)
         && element == that.element
         && name.equals(that.name)
         && Objects.equals(index, that.index);
@@ -72,13 +107,14 @@ public class HttpTemplateCacheKey {
 
   @Override
   public int hashCode() {
-    return Objects.hash(responseDefinition, element, name, index);
+    return Objects.hash(stubId, responseDefinition, element, name, index);
   }
 
   @Override
   public String toString() {
     final StringBuilder sb = new StringBuilder("TemplateCacheKey{");
-    sb.append("responseDefinition=").append(responseDefinition);
+    sb.append("stubId=").append(stubId);
+    sb.append(", responseDefinition=").append(responseDefinition);
     sb.append(", element=").append(element);
     sb.append(", name='").append(name).append('\'');
     sb.append(", index=").append(index);
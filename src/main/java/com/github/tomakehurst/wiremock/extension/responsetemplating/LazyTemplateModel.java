@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.extension.responsetemplating;
+
+import static com.github.tomakehurst.wiremock.common.Lazy.lazy;
+
+import com.github.tomakehurst.wiremock.common.Lazy;
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A template model whose data from {@link
+ * com.github.tomakehurst.wiremock.extension.TemplateModelDataProviderExtension}s is only fetched
+ * when a template looks up a root that one of them might provide. By default a provider might
+ * provide any root, so only templates that use helpers alone avoid calling it. Providers that
+ * declare their roots via {@link
+ * com.github.tomakehurst.wiremock.extension.TemplateModelDataProviderExtension#providesRoot(String)}
+ * are also skipped for templates that only use other roots, e.g. {@code request.path}.
+ *
+ * <p>Precedence is the same as if the provided data had been put into a plain map after the
+ * defaults: provided data overrides the defaults, e.g. {@code request} and {@code parameters}, and
+ * anything put into the model afterwards overrides both.
+ */
+class LazyTemplateModel extends AbstractMap<String, Object> {
+
+  private final Map<String, Object> defaults;
+  private final Map<String, Object> overrides = new HashMap<>();
+  private final Predicate<String> mightBeProvided;
+  private final Lazy<Map<String, Object>> providedData;
+
+  LazyTemplateModel(
+      Map<String, Object> defaults,
+      Predicate<String> mightBeProvided,
+      Supplier<Map<String, Object>> providedData) {
+    this.defaults = defaults;
+    this.mightBeProvided = mightBeProvided;
+    this.providedData = lazy(providedData);
+  }
+
+  @Override
+  public Object get(Object key) {
+    if (overrides.containsKey(key)) {
+      return overrides.get(key);
+    }
+
+    if (isProvided(key)) {
+      return providedData.get().get(key);
+    }
+
+    return defaults.get(key);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return overrides.containsKey(key) || isProvided(key) || defaults.containsKey(key);
+  }
+
+  private boolean isProvided(Object key) {
+    return key instanceof String
+        && mightBeProvided.test((String) key)
+        && providedData.get().containsKey(key);
+  }
+
+  @Override
+  public Object put(String key, Object value) {
+    return overrides.put(key, value);
+  }
+
+  @Override
+  public Set<Entry<String, Object>> entrySet() {
+    final Map<String, Object> all = new HashMap<>(defaults);
+    all.putAll(providedData.get());
+    all.putAll(overrides);
+    return all.entrySet();
+  }
+}
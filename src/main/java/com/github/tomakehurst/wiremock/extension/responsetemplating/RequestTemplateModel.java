@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2024 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,21 +15,30 @@
  */
 package com.github.tomakehurst.wiremock.extension.responsetemplating;
 
+import static com.github.tomakehurst.wiremock.common.Lazy.lazy;
+
+import com.github.tomakehurst.wiremock.common.Lazy;
 import com.github.tomakehurst.wiremock.common.ListOrSingle;
 import com.github.tomakehurst.wiremock.http.Body;
 import com.github.tomakehurst.wiremock.http.RequestMethod;
 import java.util.Map;
+import java.util.function.Supplier;
 
+/**
+ * The {@code request} root of the template model. Each part is only built from the request the
+ * first time a template accesses it, so templates that only use e.g. the path don't pay for
+ * adapting headers, cookies, the query or the body.
+ */
 public class RequestTemplateModel {
 
   private final String id;
-  private final RequestLine requestLine;
-  private final Map<String, ListOrSingle<String>> headers;
-  private final Map<String, ListOrSingle<String>> cookies;
+  private final Lazy<RequestLine> requestLine;
+  private final Lazy<Map<String, ListOrSingle<String>>> headers;
+  private final Lazy<Map<String, ListOrSingle<String>>> cookies;
 
   private final boolean isMultipart;
-  private final Body body;
-  private final Map<String, RequestPartTemplateModel> parts;
+  private final Lazy<Body> body;
+  private final Lazy<Map<String, RequestPartTemplateModel>> parts;
 
   protected RequestTemplateModel(
       String id,
@@ -39,13 +48,24 @@ public class RequestTemplateModel {
       boolean isMultipart,
       Body body,
       Map<String, RequestPartTemplateModel> parts) {
+    this(id, () -> requestLine, () -> headers, () -> cookies, isMultipart, () -> body, () -> parts);
+  }
+
+  RequestTemplateModel(
+      String id,
+      Supplier<RequestLine> requestLine,
+      Supplier<Map<String, ListOrSingle<String>>> headers,
+      Supplier<Map<String, ListOrSingle<String>>> cookies,
+      boolean isMultipart,
+      Supplier<Body> body,
+      Supplier<Map<String, RequestPartTemplateModel>> parts) {
     this.id = id;
-    this.requestLine = requestLine;
-    this.headers = headers;
-    this.cookies = cookies;
+    this.requestLine = lazy(requestLine);
+    this.headers = lazy(headers);
+    this.cookies = lazy(cookies);
     this.isMultipart = isMultipart;
-    this.body = body;
-    this.parts = parts;
+    this.body = lazy(body);
+    this.parts = lazy(parts);
   }
 
   public String getId() {
@@ -57,63 +77,63 @@ public class RequestTemplateModel {
    * @deprecated Use the direct accessors
    */
   public RequestLine getRequestLine() {
-    return requestLine;
+    return requestLine.get();
   }
 
   public RequestMethod getMethod() {
-    return requestLine.getMethod();
+    return requestLine.get().getMethod();
   }
 
   public Object getPathSegments() {
-    return requestLine.getPathSegments();
+    return requestLine.get().getPathSegments();
   }
 
   public Object getPath() {
-    return requestLine.getPathSegments();
+    return requestLine.get().getPathSegments();
   }
 
   public String getUrl() {
-    return requestLine.getUrl();
+    return requestLine.get().getUrl();
   }
 
   public Map<String, ListOrSingle<String>> getQuery() {
-    return requestLine.getQuery();
+    return requestLine.get().getQuery();
   }
 
   public String getScheme() {
-    return requestLine.getScheme();
+    return requestLine.get().getScheme();
   }
 
   public String getHost() {
-    return requestLine.getHost();
+    return requestLine.get().getHost();
   }
 
   public int getPort() {
-    return requestLine.getPort();
+    return requestLine.get().getPort();
   }
 
   public String getBaseUrl() {
-    return requestLine.getBaseUrl();
+    return requestLine.get().getBaseUrl();
   }
 
   public Map<String, ListOrSingle<String>> getHeaders() {
-    return headers;
+    return headers.get();
   }
 
   public Map<String, ListOrSingle<String>> getCookies() {
-    return cookies;
+    return cookies.get();
   }
 
   public String getBody() {
-    return body.asString();
+    return body.get().asString();
   }
 
   public String getBodyAsBase64() {
-    return body.asBase64();
+    return body.get().asBase64();
   }
 
   public boolean isBinary() {
-    return body.isBinary();
+    return body.get().isBinary();
   }
 
   public boolean isMultipart() {
@@ -121,10 +141,10 @@ public class RequestTemplateModel {
   }
 
   public Map<String, RequestPartTemplateModel> getParts() {
-    return parts;
+    return parts.get();
   }
 
   public String getClientIp() {
-    return requestLine.getClientIp();
+    return requestLine.get().getClientIp();
   }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2024 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,13 +21,11 @@ import static com.github.tomakehurst.wiremock.common.ParameterUtils.getFirstNonN
 import com.github.jknack.handlebars.HandlebarsException;
 import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
 import com.github.tomakehurst.wiremock.common.FileSource;
-import com.github.tomakehurst.wiremock.common.TextFile;
 import com.github.tomakehurst.wiremock.extension.*;
 import com.github.tomakehurst.wiremock.http.*;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
 import com.github.tomakehurst.wiremock.stubbing.SubEvent;
-import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -68,6 +66,8 @@ public class ResponseTemplateTransformer
     try {
       final Request request = serveEvent.getRequest();
       final ResponseDefinition responseDefinition = serveEvent.getResponseDefinition();
+      final UUID stubId =
+          serveEvent.getStubMapping() != null ? serveEvent.getStubMapping().getId() : null;
       final Parameters parameters =
           getFirstNonNull(responseDefinition.getTransformerParameters(), Parameters.empty());
 
@@ -81,7 +81,7 @@ public class ResponseTemplateTransformer
         boolean isJsonBody = responseDefinition.getReponseBody().isJson();
         HandlebarsOptimizedTemplate bodyTemplate =
             templateEngine.getTemplate(
-                HttpTemplateCacheKey.forInlineBody(responseDefinition),
+                HttpTemplateCacheKey.forInlineBody(stubId, responseDefinition),
                 responseDefinition.getTextBody());
         applyTemplatedResponseBody(newResponseDefBuilder, model, bodyTemplate, isJsonBody);
       } else if (responseDefinition.specifiesBodyFile()) {
@@ -94,11 +94,10 @@ public class ResponseTemplateTransformer
         if (disableBodyFileTemplating) {
           newResponseDefBuilder.withBodyFile(compiledFilePath);
         } else {
-          TextFile file = files.getTextFileNamed(compiledFilePath);
           HandlebarsOptimizedTemplate bodyTemplate =
               templateEngine.getTemplate(
-                  HttpTemplateCacheKey.forFileBody(responseDefinition, compiledFilePath),
-                  file.readContentsAsString());
+                  HttpTemplateCacheKey.forFileBody(stubId, responseDefinition, compiledFilePath),
+                  () -> files.getTextFileNamed(compiledFilePath).readContentsAsString());
           applyTemplatedResponseBody(newResponseDefBuilder, model, bodyTemplate, false);
         }
       }
@@ -114,7 +113,7 @@ public class ResponseTemplateTransformer
                         HandlebarsOptimizedTemplate template =
                             templateEngine.getTemplate(
                                 HttpTemplateCacheKey.forHeader(
-                                    responseDefinition, header.key(), index++),
+                                    stubId, responseDefinition, header.key(), index++),
                                 headerValue);
                         valueListBuilder.add(uncheckedApplyTemplate(template, model));
                       }
@@ -128,7 +127,7 @@ public class ResponseTemplateTransformer
       if (responseDefinition.getProxyBaseUrl() != null) {
         HandlebarsOptimizedTemplate proxyBaseUrlTemplate =
             templateEngine.getTemplate(
-                HttpTemplateCacheKey.forProxyUrl(responseDefinition),
+                HttpTemplateCacheKey.forProxyUrl(stubId, responseDefinition),
                 responseDefinition.getProxyBaseUrl());
         String newProxyBaseUrl = uncheckedApplyTemplate(proxyBaseUrlTemplate, model);
 
@@ -146,7 +145,7 @@ public class ResponseTemplateTransformer
                           HandlebarsOptimizedTemplate template =
                               templateEngine.getTemplate(
                                   HttpTemplateCacheKey.forHeader(
-                                      responseDefinition, header.key(), index++),
+                                      stubId, responseDefinition, header.key(), index++),
                                   headerValue);
                           valueListBuilder.add(uncheckedApplyTemplate(template, model));
                         }
@@ -198,11 +197,8 @@ public class ResponseTemplateTransformer
       Map<String, Object> model,
       HandlebarsOptimizedTemplate bodyTemplate,
       boolean isJsonBody) {
-    String bodyString = uncheckedApplyTemplate(bodyTemplate, model);
-    Body body =
-        isJsonBody
-            ? Body.fromJsonBytes(bodyString.getBytes(StandardCharsets.UTF_8))
-            : Body.fromOneOf(null, bodyString, null, null);
+    byte[] bodyBytes = bodyTemplate.applyAsBytes(model);
+    Body body = isJsonBody ? Body.fromJsonBytes(bodyBytes) : Body.fromTextBytes(bodyBytes);
     newResponseDefBuilder.withResponseBody(body);
   }
 
@@ -210,9 +206,14 @@ public class ResponseTemplateTransformer
     return template.apply(context);
   }
 
+  @Override
+  public void afterStubEdited(StubMapping oldStub, StubMapping newStub) {
+    templateEngine.invalidateCache(oldStub.getId());
+  }
+
   @Override
   public void afterStubRemoved(StubMapping stub) {
-    templateEngine.invalidateCache();
+    templateEngine.invalidateCache(stub.getId());
   }
 
   @Override
@@ -224,6 +225,10 @@ public class ResponseTemplateTransformer
     return templateEngine.getCacheSize();
   }
 
+  public TemplateCacheStatistics getCacheStatistics() {
+    return templateEngine.getCacheStatistics();
+  }
+
   public Long getMaxCacheEntries() {
     return templateEngine.getMaxCacheEntries();
   }
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2021-2024 Thomas Akehurst
+ * Copyright (C) 2021-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -39,9 +39,11 @@ import com.github.tomakehurst.wiremock.http.ResponseDefinition;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import com.google.common.collect.Maps;
 import java.util.*;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 public class TemplateEngine {
@@ -68,7 +70,7 @@ public class TemplateEngine {
 
     this.maxCacheEntries = maxCacheEntries;
     this.templateModelDataProviders = templateModelDataProviders;
-    CacheBuilder<Object, Object> cacheBuilder = CacheBuilder.newBuilder();
+    CacheBuilder<Object, Object> cacheBuilder = CacheBuilder.newBuilder().recordStats();
     if (maxCacheEntries != null) {
       cacheBuilder.maximumSize(maxCacheEntries);
     }
@@ -126,6 +128,20 @@ public class TemplateEngine {
     }
   }
 
+  /** Only gets the content if the template isn't already cached, e.g. to avoid reading a file. */
+  public HandlebarsOptimizedTemplate getTemplate(final Object key, final Supplier<String> content) {
+    if (maxCacheEntries != null && maxCacheEntries < 1) {
+      return getUncachedTemplate(content.get());
+    }
+
+    HandlebarsOptimizedTemplate template = cache.getIfPresent(key);
+    if (template == null) {
+      template = new HandlebarsOptimizedTemplate(handlebars, content.get());
+      cache.put(key, template);
+    }
+    return template;
+  }
+
   public HandlebarsOptimizedTemplate getUncachedTemplate(final String content) {
     return new HandlebarsOptimizedTemplate(handlebars, content);
   }
@@ -135,17 +151,24 @@ public class TemplateEngine {
     final Parameters parameters =
         getFirstNonNull(responseDefinition.getTransformerParameters(), Parameters.empty());
 
-    final Map<String, Object> additionalModelData =
-        templateModelDataProviders.stream()
-            .map(provider -> provider.provideTemplateModelData(serveEvent).entrySet())
-            .flatMap(Set::stream)
-            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-
     final Map<String, Object> model = new HashMap<>();
     model.put("parameters", parameters);
     model.put("request", buildRequestModel(serveEvent.getRequest()));
-    model.putAll(additionalModelData);
-    return model;
+    return templateModelDataProviders.isEmpty()
+        ? model
+        : new LazyTemplateModel(
+            model,
+            name ->
+                templateModelDataProviders.stream()
+                    .anyMatch(provider -> provider.providesRoot(name)),
+            () -> provideTemplateModelData(serveEvent));
+  }
+
+  private Map<String, Object> provideTemplateModelData(ServeEvent serveEvent) {
+    return templateModelDataProviders.stream()
+        .map(provider -> provider.provideTemplateModelData(serveEvent).entrySet())
+        .flatMap(Set::stream)
+        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
   }
 
   public Map<String, Object> buildModelForRequest(Request request) {
@@ -155,22 +178,24 @@ public class TemplateEngine {
   }
 
   private static RequestTemplateModel buildRequestModel(Request request) {
-    RequestLine requestLine = RequestLine.fromRequest(request);
+    return new RequestTemplateModel(
+        request.getId() != null ? request.getId().toString() : null,
+        () -> RequestLine.fromRequest(request),
+        () -> buildHeadersModel(request),
+        () ->
+            Maps.transformValues(
+                request.getCookies(), cookie -> ListOrSingle.of(cookie.getValues())),
+        request.isMultipart(),
+        () -> Body.ofBinaryOrText(request.getBody(), request.contentTypeHeader()),
+        () -> buildRequestPartModel(request));
+  }
+
+  private static Map<String, ListOrSingle<String>> buildHeadersModel(Request request) {
     Map<String, ListOrSingle<String>> adaptedHeaders = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
     adaptedHeaders.putAll(
         Maps.toMap(
             request.getAllHeaderKeys(), input -> ListOrSingle.of(request.header(input).values())));
-    Map<String, ListOrSingle<String>> adaptedCookies =
-        Maps.transformValues(request.getCookies(), cookie -> ListOrSingle.of(cookie.getValues()));
-
-    return new RequestTemplateModel(
-        request.getId() != null ? request.getId().toString() : null,
-        requestLine,
-        adaptedHeaders,
-        adaptedCookies,
-        request.isMultipart(),
-        Body.ofBinaryOrText(request.getBody(), request.contentTypeHeader()),
-        buildRequestPartModel(request));
+    return adaptedHeaders;
   }
 
   private static Map<String, RequestPartTemplateModel> buildRequestPartModel(Request request) {
@@ -201,6 +226,27 @@ public class TemplateEngine {
     cache.invalidateAll();
   }
 
+  /** Discards only the templates compiled for the given stub, leaving every other entry cached. */
+  public void invalidateCache(UUID stubId) {
+    cache
+        .asMap()
+        .keySet()
+        .removeIf(
+            key ->
+                key instanceof HttpTemplateCacheKey
+                    && stubId.equals(((HttpTemplateCacheKey) key).getStubId()));
+  }
+
+  /**
+   * Counts since the engine was created. Entries discarded by invalidation aren't counted as
+   * evictions, only those pushed out by the size limit.
+   */
+  public TemplateCacheStatistics getCacheStatistics() {
+    final CacheStats stats = cache.stats();
+    return new TemplateCacheStatistics(
+        cache.size(), stats.hitCount(), stats.missCount(), stats.evictionCount());
+  }
+
   public Long getMaxCacheEntries() {
     return maxCacheEntries;
   }
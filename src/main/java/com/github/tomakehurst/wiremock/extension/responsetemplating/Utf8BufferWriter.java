@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.extension.responsetemplating;
+
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * A writer that encodes straight into a growable UTF-8 byte buffer, so rendered output never exists
+ * as a String. Unpaired surrogates are written as {@code ?}, as {@link
+ * String#getBytes(java.nio.charset.Charset)} does.
+ *
+ * <p>Not thread safe. Instances are reused via {@link #acquire()} and {@link #release()} so each
+ * thread keeps one buffer rather than allocating one per render.
+ */
+class Utf8BufferWriter extends Writer {
+
+  private static final int INITIAL_CAPACITY = 1024;
+  // Don't keep hold of the buffer used to render an unusually large body
+  private static final int MAX_RETAINED_CAPACITY = 1024 * 1024;
+
+  private static final ThreadLocal<Utf8BufferWriter> POOL = new ThreadLocal<>();
+
+  private byte[] buffer = new byte[INITIAL_CAPACITY];
+  private int size;
+  private char pendingHighSurrogate;
+
+  /**
+   * Returns this thread's writer, emptied, or a new one if it's already in use further up the
+   * stack, e.g. by a helper that renders another template.
+   */
+  static Utf8BufferWriter acquire() {
+    final Utf8BufferWriter pooled = POOL.get();
+    if (pooled == null) {
+      return new Utf8BufferWriter();
+    }
+
+    POOL.remove();
+    pooled.size = 0;
+    pooled.pendingHighSurrogate = 0;
+    return pooled;
+  }
+
+  void release() {
+    if (buffer.length <= MAX_RETAINED_CAPACITY) {
+      POOL.set(this);
+    }
+  }
+
+  void writeBytes(byte[] bytes) {
+    flushPendingSurrogate();
+    ensureCapacity(bytes.length);
+    System.arraycopy(bytes, 0, buffer, size, bytes.length);
+    size += bytes.length;
+  }
+
+  byte[] toByteArray() {
+    flushPendingSurrogate();
+    return Arrays.copyOf(buffer, size);
+  }
+
+  @Override
+  public void write(int c) {
+    writeChar((char) c);
+  }
+
+  @Override
+  public void write(char[] chars, int offset, int length) {
+    ensureCapacity(length);
+    for (int i = offset; i < offset + length; i++) {
+      writeChar(chars[i]);
+    }
+  }
+
+  @Override
+  public void write(String str, int offset, int length) {
+    ensureCapacity(length);
+    for (int i = offset; i < offset + length; i++) {
+      writeChar(str.charAt(i));
+    }
+  }
+
+  private void writeChar(char c) {
+    if (pendingHighSurrogate != 0) {
+      final char high = pendingHighSurrogate;
+      pendingHighSurrogate = 0;
+      if (Character.isLowSurrogate(c)) {
+        writeCodePoint(Character.toCodePoint(high, c));
+        return;
+      }
+      writeByte('?');
+    }
+
+    if (c < 0x80) {
+      writeByte(c);
+    } else if (Character.isHighSurrogate(c)) {
+      pendingHighSurrogate = c;
+    } else if (Character.isLowSurrogate(c)) {
+      writeByte('?');
+    } else {
+      writeCodePoint(c);
+    }
+  }
+
+  private void writeCodePoint(int codePoint) {
+    ensureCapacity(4);
+    if (codePoint < 0x80) {
+      buffer[size++] = (byte) codePoint;
+    } else if (codePoint < 0x800) {
+      buffer[size++] = (byte) (0xC0 | (codePoint >> 6));
+      buffer[size++] = (byte) (0x80 | (codePoint & 0x3F));
+    } else if (codePoint < 0x10000) {
+      buffer[size++] = (byte) (0xE0 | (codePoint >> 12));
+      buffer[size++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+      buffer[size++] = (byte) (0x80 | (codePoint & 0x3F));
+    } else {
+      buffer[size++] = (byte) (0xF0 | (codePoint >> 18));
+      buffer[size++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+      buffer[size++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+      buffer[size++] = (byte) (0x80 | (codePoint & 0x3F));
+    }
+  }
+
+  private void writeByte(int b) {
+    ensureCapacity(1);
+    buffer[size++] = (byte) b;
+  }
+
+  private void flushPendingSurrogate() {
+    if (pendingHighSurrogate != 0) {
+      pendingHighSurrogate = 0;
+      writeByte('?');
+    }
+  }
+
+  private void ensureCapacity(int additional) {
+    if (size + additional > buffer.length) {
+      buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + additional));
+    }
+  }
+
+  @Override
+  public void flush() {}
+
+  @Override
+  public void close() {}
+}
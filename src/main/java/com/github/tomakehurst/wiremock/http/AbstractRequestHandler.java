@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2011-2024 Thomas Akehurst
+ * Copyright (C) 2011-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -55,6 +55,15 @@ public abstract class AbstractRequestHandler implements RequestHandler, RequestE
 
   @Override
   public void handle(Request request, HttpResponder httpResponder, ServeEvent originalServeEvent) {
+    RequestCache.onRequestStart();
+    try {
+      handleWithinRequestScope(request, httpResponder);
+    } finally {
+      RequestCache.onRequestEnd();
+    }
+  }
+
+  private void handleWithinRequestScope(Request request, HttpResponder httpResponder) {
     ServeEvent serveEvent = ServeEvent.of(request);
     Request processedRequest = request;
 
@@ -103,8 +112,6 @@ public abstract class AbstractRequestHandler implements RequestHandler, RequestE
 
     serveEvent.afterSend();
     afterResponseSent(serveEvent, response);
-
-    RequestCache.onRequestEnd();
   }
 
   protected String formatRequest(Request request) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2015-2024 Thomas Akehurst
+ * Copyright (C) 2015-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,12 +17,15 @@ package com.github.tomakehurst.wiremock.http;
 
 import static com.github.tomakehurst.wiremock.common.Encoding.decodeBase64;
 import static com.github.tomakehurst.wiremock.common.Encoding.encodeBase64;
+import static com.github.tomakehurst.wiremock.common.Lazy.lazy;
 import static com.github.tomakehurst.wiremock.common.Strings.stringFromBytes;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.NullNode;
 import com.github.tomakehurst.wiremock.common.ContentTypes;
+import com.github.tomakehurst.wiremock.common.Gzip;
 import com.github.tomakehurst.wiremock.common.Json;
+import com.github.tomakehurst.wiremock.common.Lazy;
 import com.github.tomakehurst.wiremock.common.Strings;
 import java.util.Arrays;
 import java.util.Objects;
@@ -32,6 +35,7 @@ public class Body {
   private final byte[] content;
   private final boolean binary;
   private final boolean json;
+  private final Lazy<byte[]> gzipped = lazy(() -> Gzip.gzip(asBytes()));
 
   public Body(byte[] content) {
     this(content, true);
@@ -69,6 +73,11 @@ public class Body {
     return bytes != null ? new Body(bytes, false, true) : none();
   }
 
+  /** A text body from content that is already UTF-8 encoded. */
+  public static Body fromTextBytes(byte[] bytes) {
+    return bytes != null ? new Body(bytes, false) : none();
+  }
+
   static Body fromString(String str) {
     return str != null ? new Body(str) : none();
   }
@@ -101,6 +110,11 @@ public class Body {
     return content != null ? content : null;
   }
 
+  /** The content gzipped, compressing it only the first time this is called. */
+  public byte[] asGzippedBytes() {
+    return gzipped.get();
+  }
+
   public String asBase64() {
     return encodeBase64(content);
   }
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2011-2023 Thomas Akehurst
+ * Copyright (C) 2011-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -57,12 +57,16 @@ public class HttpHeaders {
   }
 
   public HttpHeader getHeader(String key) {
-    if (!headers.containsKey(caseInsensitive(key))) {
-      return HttpHeader.absent(key);
+    return getHeader(caseInsensitive(key));
+  }
+
+  public HttpHeader getHeader(CaseInsensitiveKey key) {
+    Collection<String> values = headers.get(key);
+    if (values.isEmpty()) {
+      return HttpHeader.absent(key.value());
     }
 
-    Collection<String> values = headers.get(caseInsensitive(key));
-    return new HttpHeader(key, values);
+    return new HttpHeader(key.value(), values);
   }
 
   public ContentTypeHeader getContentTypeHeader() {
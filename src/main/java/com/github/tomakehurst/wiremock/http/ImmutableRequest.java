@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2023 Thomas Akehurst
+ * Copyright (C) 2023-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -117,6 +117,11 @@ public class ImmutableRequest implements Request {
     return headers.getHeader(key);
   }
 
+  @Override
+  public HttpHeader header(CaseInsensitiveKey key) {
+    return headers.getHeader(key);
+  }
+
   @Override
   public ContentTypeHeader contentTypeHeader() {
     return headers.getContentTypeHeader();
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2011-2024 Thomas Akehurst
+ * Copyright (C) 2011-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -61,6 +61,14 @@ public interface Request {
 
   HttpHeader header(String key);
 
+  /**
+   * Looks up a header by a key that can be created once and reused, e.g. by a compiled matcher, to
+   * avoid case folding the header name on every lookup.
+   */
+  default HttpHeader header(CaseInsensitiveKey key) {
+    return header(key.value());
+  }
+
   ContentTypeHeader contentTypeHeader();
 
   HttpHeaders getHeaders();
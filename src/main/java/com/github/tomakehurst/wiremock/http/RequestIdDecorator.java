@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2024 Thomas Akehurst
+ * Copyright (C) 2024-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -83,6 +83,11 @@ public class RequestIdDecorator implements Request {
     return request.header(key);
   }
 
+  @Override
+  public HttpHeader header(CaseInsensitiveKey key) {
+    return request.header(key);
+  }
+
   @Override
   public ContentTypeHeader contentTypeHeader() {
     return request.contentTypeHeader();
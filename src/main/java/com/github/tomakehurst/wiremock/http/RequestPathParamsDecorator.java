@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2024 Thomas Akehurst
+ * Copyright (C) 2024-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,15 +28,48 @@ public class RequestPathParamsDecorator implements Request {
 
   private final Request request;
   private final PathTemplate pathTemplate;
+  private PathParams pathParams;
 
   public static Request decorate(Request request, RequestPattern requestPattern) {
-    final PathTemplate pathTemplate = requestPattern.getUrlMatcher().getPathTemplate();
-    return pathTemplate != null ? new RequestPathParamsDecorator(request, pathTemplate) : request;
+    return decorate(request, requestPattern.getUrlMatcher().getPathTemplate());
+  }
+
+  public static Request decorate(Request request, PathTemplate pathTemplate) {
+    if (pathTemplate == null || isDecoratedWith(request, pathTemplate)) {
+      return request;
+    }
+
+    return new RequestPathParamsDecorator(request, pathTemplate);
+  }
+
+  private static boolean isDecoratedWith(Request request, PathTemplate pathTemplate) {
+    return request instanceof RequestPathParamsDecorator
+        && ((RequestPathParamsDecorator) request).pathTemplate.equals(pathTemplate);
+  }
+
+  /**
+   * Whether the request has already been matched against the template and its path parameters
+   * extracted, in which case the template does not need to be evaluated against the URL again.
+   */
+  public static boolean hasResolvedPathParams(Request request, PathTemplate pathTemplate) {
+    return pathTemplate != null
+        && isDecoratedWith(request, pathTemplate)
+        && ((RequestPathParamsDecorator) request).pathParams != null;
   }
 
   public RequestPathParamsDecorator(Request request, PathTemplate pathTemplate) {
+    this(request, pathTemplate, null);
+  }
+
+  /**
+   * Decorates the request with path parameters that have already been extracted, e.g. while routing
+   * the request to its candidate stubs, so the template does not need to be parsed again.
+   */
+  public RequestPathParamsDecorator(
+      Request request, PathTemplate pathTemplate, PathParams pathParams) {
     this.request = request;
     this.pathTemplate = pathTemplate;
+    this.pathParams = pathParams;
   }
 
   @Override
@@ -89,6 +122,11 @@ public class RequestPathParamsDecorator implements Request {
     return request.header(key);
   }
 
+  @Override
+  public HttpHeader header(CaseInsensitiveKey key) {
+    return request.header(key);
+  }
+
   @Override
   public ContentTypeHeader contentTypeHeader() {
     return request.contentTypeHeader();
@@ -111,7 +149,10 @@ public class RequestPathParamsDecorator implements Request {
 
   @Override
   public PathParams getPathParameters() {
-    return pathTemplate.parse(getUrl());
+    if (pathParams == null) {
+      pathParams = pathTemplate.parse(getUrl());
+    }
+    return pathParams;
   }
 
   @Override
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2011-2023 Thomas Akehurst
+ * Copyright (C) 2011-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,9 @@ import static java.net.HttpURLConnection.HTTP_OK;
 import com.github.tomakehurst.wiremock.common.*;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Optional;
 
 public class Response {
@@ -116,6 +119,68 @@ public class Response {
     return bodyStreamSource == null ? null : bodyStreamSource.getStream();
   }
 
+  /** The file the body is read from, if it's served from one on the default file system. */
+  public Optional<Path> getBodyFile() {
+    return bodyStreamSource instanceof StreamSources.FileInputStreamSource
+        ? Optional.of(((StreamSources.FileInputStreamSource) bodyStreamSource).getPath())
+        : Optional.empty();
+  }
+
+  /**
+   * The body file's contents memory mapped, if the body is served from a file that can be mapped.
+   * The buffer is only valid for sending this response.
+   */
+  public Optional<ByteBuffer> getMappedBody() {
+    return bodyStreamSource instanceof StreamSources.FileInputStreamSource
+        ? ((StreamSources.FileInputStreamSource) bodyStreamSource).getMappedContents()
+        : Optional.empty();
+  }
+
+  /**
+   * The body gzipped, if it's held in memory and at least the minimum length. The gzipped copy is
+   * kept by the body's source, e.g. a stub's body, so it's only made once.
+   */
+  public Optional<byte[]> getGzippedBody(int minLength) {
+    if (!(bodyStreamSource instanceof GzippableInputStreamSource)) {
+      return Optional.empty();
+    }
+
+    final GzippableInputStreamSource source = (GzippableInputStreamSource) bodyStreamSource;
+    return source.getLength() >= minLength
+        ? Optional.of(source.getGzippedBytes())
+        : Optional.empty();
+  }
+
+  /**
+   * The length of the body, if it can be found without reading the body, i.e. it's held in memory
+   * or is a file.
+   */
+  public Optional<Long> getKnownBodyLength() {
+    if (bodyStreamSource == null) {
+      return Optional.of(0L);
+    }
+
+    if (bodyStreamSource instanceof GzippableInputStreamSource) {
+      return Optional.of((long) ((GzippableInputStreamSource) bodyStreamSource).getLength());
+    }
+
+    if (bodyStreamSource instanceof StreamSources.ByteArrayInputStreamSource) {
+      return Optional.of(
+          (long) ((StreamSources.ByteArrayInputStreamSource) bodyStreamSource).getLength());
+    }
+
+    final Optional<Path> bodyFile = getBodyFile();
+    if (bodyFile.isPresent()) {
+      try {
+        return Optional.of(Files.size(bodyFile.get()));
+      } catch (IOException e) {
+        // Reading the body will report the problem if there is one
+      }
+    }
+
+    return Optional.empty();
+  }
+
   public boolean hasInlineBody() {
     return StreamSources.ByteArrayInputStreamSource.class.isAssignableFrom(
         bodyStreamSource.getClass());
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2011-2024 Thomas Akehurst
+ * Copyright (C) 2011-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -477,6 +477,10 @@ public class ResponseDefinition {
     return transformers != null && transformers.contains(transformer.getName());
   }
 
+  public boolean hasTransformers() {
+    return transformers != null && !transformers.isEmpty();
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2011-2024 Thomas Akehurst
+ * Copyright (C) 2011-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -107,6 +107,7 @@ public class StubRequestHandler extends AbstractRequestHandler {
   @Override
   protected void afterResponseSent(ServeEvent serveEvent, Response response) {
     requestJournal.serveCompleted(serveEvent);
+    stubServer.serveCompleted(serveEvent);
 
     triggerPostServeActions(serveEvent);
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2011-2023 Thomas Akehurst
+ * Copyright (C) 2011-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,15 +20,22 @@ import static com.github.tomakehurst.wiremock.http.Response.response;
 
 import com.github.tomakehurst.wiremock.common.FileSource;
 import com.github.tomakehurst.wiremock.common.InputStreamSource;
+import com.github.tomakehurst.wiremock.common.StreamSources;
 import com.github.tomakehurst.wiremock.extension.ResponseTransformer;
 import com.github.tomakehurst.wiremock.extension.ResponseTransformerV2;
+import com.github.tomakehurst.wiremock.extension.TransformerChain;
+import com.github.tomakehurst.wiremock.extension.TransformerTimings;
 import com.github.tomakehurst.wiremock.global.GlobalSettings;
 import com.github.tomakehurst.wiremock.store.BlobStore;
 import com.github.tomakehurst.wiremock.store.SettingsStore;
 import com.github.tomakehurst.wiremock.store.files.BlobStoreFileSource;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
 
 public class StubResponseRenderer implements ResponseRenderer {
 
@@ -36,8 +43,12 @@ public class StubResponseRenderer implements ResponseRenderer {
   private final FileSource filesFileSource;
   private final SettingsStore settingsStore;
   private final ProxyResponseRenderer proxyResponseRenderer;
-  private final List<ResponseTransformer> responseTransformers;
-  private final List<ResponseTransformerV2> v2ResponseTransformers;
+  private final TransformerChain<ResponseTransformer> v1TransformerChain;
+  private final TransformerChain<ResponseTransformerV2> v2TransformerChain;
+
+  // Keyed weakly, and so by identity, so entries go when their stubs are removed
+  private final Cache<StubMapping, MatchedStubHeaders> matchedStubHeaders =
+      CacheBuilder.newBuilder().weakKeys().build();
 
   public StubResponseRenderer(
       BlobStore filesBlobStore,
@@ -45,11 +56,31 @@ public class StubResponseRenderer implements ResponseRenderer {
       ProxyResponseRenderer proxyResponseRenderer,
       List<ResponseTransformer> responseTransformers,
       List<ResponseTransformerV2> v2ResponseTransformers) {
+    this(
+        filesBlobStore,
+        settingsStore,
+        proxyResponseRenderer,
+        responseTransformers,
+        v2ResponseTransformers,
+        new TransformerTimings());
+  }
+
+  public StubResponseRenderer(
+      BlobStore filesBlobStore,
+      SettingsStore settingsStore,
+      ProxyResponseRenderer proxyResponseRenderer,
+      List<ResponseTransformer> responseTransformers,
+      List<ResponseTransformerV2> v2ResponseTransformers,
+      TransformerTimings transformerTimings) {
     this.filesBlobStore = filesBlobStore;
     this.settingsStore = settingsStore;
     this.proxyResponseRenderer = proxyResponseRenderer;
-    this.responseTransformers = responseTransformers;
-    this.v2ResponseTransformers = v2ResponseTransformers;
+    this.v1TransformerChain =
+        new TransformerChain<>(
+            responseTransformers, ResponseTransformer::applyGlobally, transformerTimings);
+    this.v2TransformerChain =
+        new TransformerChain<>(
+            v2ResponseTransformers, ResponseTransformerV2::applyGlobally, transformerTimings);
 
     filesFileSource = new BlobStoreFileSource(filesBlobStore);
   }
@@ -62,17 +93,8 @@ public class StubResponseRenderer implements ResponseRenderer {
     }
 
     Response response = buildResponse(serveEvent);
-
-    response =
-        applyTransformations(
-            responseDefinition.getOriginalRequest(),
-            responseDefinition,
-            response,
-            responseTransformers);
-
-    response = applyV2Transformations(response, serveEvent, v2ResponseTransformers);
-
-    return response;
+    response = applyV1Transformations(response, responseDefinition);
+    return applyV2Transformations(response, serveEvent);
   }
 
   private Response buildResponse(ServeEvent serveEvent) {
@@ -84,43 +106,33 @@ public class StubResponseRenderer implements ResponseRenderer {
     }
   }
 
-  private Response applyTransformations(
-      Request request,
-      ResponseDefinition responseDefinition,
-      Response response,
-      List<ResponseTransformer> transformers) {
-    if (transformers.isEmpty()) {
-      return response;
+  private Response applyV1Transformations(
+      Response response, ResponseDefinition responseDefinition) {
+    for (ResponseTransformer transformer : v1TransformerChain.resolve(responseDefinition)) {
+      final Response current = response;
+      response =
+          v1TransformerChain.time(
+              transformer,
+              () ->
+                  transformer.transform(
+                      responseDefinition.getOriginalRequest(),
+                      current,
+                      filesFileSource,
+                      responseDefinition.getTransformerParameters()));
     }
 
-    ResponseTransformer transformer = transformers.get(0);
-    Response newResponse =
-        transformer.applyGlobally() || responseDefinition.hasTransformer(transformer)
-            ? transformer.transform(
-                request, response, filesFileSource, responseDefinition.getTransformerParameters())
-            : response;
-
-    return applyTransformations(
-        request, responseDefinition, newResponse, transformers.subList(1, transformers.size()));
+    return response;
   }
 
-  private Response applyV2Transformations(
-      Response response, ServeEvent serveEvent, List<ResponseTransformerV2> transformers) {
-
-    if (transformers.isEmpty()) {
-      return response;
+  private Response applyV2Transformations(Response response, ServeEvent serveEvent) {
+    for (ResponseTransformerV2 transformer :
+        v2TransformerChain.resolve(serveEvent.getResponseDefinition())) {
+      final Response current = response;
+      response =
+          v2TransformerChain.time(transformer, () -> transformer.transform(current, serveEvent));
     }
 
-    final ResponseTransformerV2 transformer = transformers.get(0);
-    final ResponseDefinition responseDefinition = serveEvent.getResponseDefinition();
-
-    Response newResponse =
-        transformer.applyGlobally() || responseDefinition.hasTransformer(transformer)
-            ? transformer.transform(response, serveEvent)
-            : response;
-
-    return applyV2Transformations(
-        newResponse, serveEvent, transformers.subList(1, transformers.size()));
+    return response;
   }
 
   private Response.Builder renderDirectly(ServeEvent serveEvent) {
@@ -129,13 +141,7 @@ public class StubResponseRenderer implements ResponseRenderer {
     HttpHeaders headers = responseDefinition.getHeaders();
     StubMapping stubMapping = serveEvent.getStubMapping();
     if (serveEvent.getWasMatched() && stubMapping != null) {
-      headers =
-          getFirstNonNull(headers, new HttpHeaders())
-              .plus(new HttpHeader("Matched-Stub-Id", stubMapping.getId().toString()));
-
-      if (stubMapping.getName() != null) {
-        headers = headers.plus(new HttpHeader("Matched-Stub-Name", stubMapping.getName()));
-      }
+      headers = withMatchedStubHeaders(headers, stubMapping);
     }
 
     GlobalSettings settings = settingsStore.get();
@@ -157,9 +163,55 @@ public class StubResponseRenderer implements ResponseRenderer {
           filesBlobStore.getStreamSource(responseDefinition.getBodyFileName());
       responseBuilder.body(bodyStreamSource);
     } else if (responseDefinition.specifiesBodyContent()) {
-      responseBuilder.body(responseDefinition.getByteBody());
+      final Body body = responseDefinition.getReponseBody();
+      responseBuilder.body(StreamSources.forBytes(body.asBytes(), body::asGzippedBytes));
     }
 
     return responseBuilder;
   }
+
+  /**
+   * Adds the matched stub's ID and name to the headers. Unless a transformer has replaced them, the
+   * headers are the stub's own, so the result is built once per stub rather than per request.
+   */
+  private HttpHeaders withMatchedStubHeaders(HttpHeaders headers, StubMapping stubMapping) {
+    final MatchedStubHeaders cached = matchedStubHeaders.getIfPresent(stubMapping);
+    if (cached != null && cached.isFor(headers, stubMapping)) {
+      return cached.headers;
+    }
+
+    HttpHeaders withMatchedStub =
+        getFirstNonNull(headers, new HttpHeaders())
+            .plus(new HttpHeader("Matched-Stub-Id", stubMapping.getId().toString()));
+    if (stubMapping.getName() != null) {
+      withMatchedStub =
+          withMatchedStub.plus(new HttpHeader("Matched-Stub-Name", stubMapping.getName()));
+    }
+
+    if (headers == stubMapping.getResponse().getHeaders()) {
+      matchedStubHeaders.put(
+          stubMapping, new MatchedStubHeaders(headers, stubMapping, withMatchedStub));
+    }
+    return withMatchedStub;
+  }
+
+  private static class MatchedStubHeaders {
+    private final HttpHeaders source;
+    private final UUID id;
+    private final String name;
+    private final HttpHeaders headers;
+
+    MatchedStubHeaders(HttpHeaders source, StubMapping stubMapping, HttpHeaders headers) {
+      this.source = source;
+      this.id = stubMapping.getId();
+      this.name = stubMapping.getName();
+      this.headers = headers;
+    }
+
+    boolean isFor(HttpHeaders source, StubMapping stubMapping) {
+      return this.source == source
+          && id.equals(stubMapping.getId())
+          && Objects.equals(name, stubMapping.getName());
+    }
+  }
 }
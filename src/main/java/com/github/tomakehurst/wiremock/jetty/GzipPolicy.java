@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.jetty;
+
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * The settings the server's gzip handler uses to decide whether to compress a response. The handler
+ * passes through responses that already have a {@code Content-Encoding}, so with these a body that
+ * was gzipped in advance can be sent in the same cases the handler would have compressed it.
+ */
+public class GzipPolicy {
+
+  public static final String KEY = GzipPolicy.class.getName();
+
+  private static final Pattern ZERO_WEIGHT = Pattern.compile("q\\s*=\\s*0(\\.0*)?");
+
+  private final Set<String> includedMethods;
+  private final Set<String> excludedMethods;
+  private final Predicate<String> compressibleMimeTypes;
+  private final int minSize;
+
+  public GzipPolicy(
+      String[] includedMethods,
+      String[] excludedMethods,
+      Predicate<String> compressibleMimeTypes,
+      int minSize) {
+    this.includedMethods = Set.of(includedMethods);
+    this.excludedMethods = Set.of(excludedMethods);
+    this.compressibleMimeTypes = compressibleMimeTypes;
+    this.minSize = minSize;
+  }
+
+  public boolean isMethodCompressible(String method) {
+    return (includedMethods.isEmpty() || includedMethods.contains(method))
+        && !excludedMethods.contains(method);
+  }
+
+  public boolean isMimeTypeCompressible(String mimeType) {
+    return compressibleMimeTypes.test(mimeType);
+  }
+
+  /** Bodies smaller than this are never compressed. */
+  public int getMinSize() {
+    return minSize;
+  }
+
+  public static boolean isStatusCompressible(int status) {
+    return status >= 200 && status < 300 && status != 204 && status != 205;
+  }
+
+  /** Whether an {@code Accept-Encoding} header value includes gzip without a zero weight. */
+  public static boolean acceptsGzip(String acceptEncoding) {
+    if (acceptEncoding == null) {
+      return false;
+    }
+
+    for (String coding : acceptEncoding.split(",")) {
+      final String[] parts = coding.split(";");
+      if (parts[0].trim().equalsIgnoreCase("gzip")) {
+        for (int i = 1; i < parts.length; i++) {
+          if (ZERO_WEIGHT.matcher(parts[i].trim()).matches()) {
+            return false;
+          }
+        }
+        return true;
+      }
+    }
+
+    return false;
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2015-2024 Thomas Akehurst
+ * Copyright (C) 2015-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,9 +15,12 @@
  */
 package com.github.tomakehurst.wiremock.jetty;
 
+import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.net.Socket;
+import java.nio.ByteBuffer;
 import org.eclipse.jetty.io.EndPoint;
 import org.eclipse.jetty.server.Response;
 
@@ -83,6 +86,19 @@ public interface JettyHttpUtils {
    */
   EndPoint unwrapEndPoint(Response response);
 
+  /**
+   * Writes the buffer through Jetty's own output, which hands large buffers to the network without
+   * copying them into its aggregation buffer.
+   *
+   * @param out the response's output stream
+   * @param content content to write
+   * @return {@code false}, having written nothing, if the stream isn't Jetty's or this isn't
+   *     supported
+   */
+  default boolean writeDirectly(ServletOutputStream out, ByteBuffer content) throws IOException {
+    return false;
+  }
+
   /**
    * Checks if the {@link HttpServletRequest} is a browser proxy request
    *
@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.jetty;
+
+import com.github.tomakehurst.wiremock.core.Options;
+import com.github.tomakehurst.wiremock.http.ThreadPoolFactory;
+import java.util.concurrent.Executor;
+import org.eclipse.jetty.util.VirtualThreads;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.eclipse.jetty.util.thread.ThreadPool;
+
+/**
+ * Builds a queued pool that hands blocking work, such as serving a request, to virtual threads. A
+ * request waiting out a fixed or random delay then parks a virtual thread instead of holding one of
+ * the container threads, which are left to Jetty's selectors and acceptors.
+ *
+ * <p>Virtual threads need Java 21 or later. On earlier JVMs this builds the same pool as {@link
+ * QueuedThreadPoolFactory}. Works with both the Jetty 11 and Jetty 12 servers.
+ */
+public class VirtualThreadPoolFactory implements ThreadPoolFactory {
+
+  @Override
+  public ThreadPool buildThreadPool(Options options) {
+    final QueuedThreadPool threadPool = new QueuedThreadPool(options.containerThreads());
+
+    final Executor virtualThreadsExecutor = VirtualThreads.getDefaultVirtualThreadsExecutor();
+    if (virtualThreadsExecutor != null) {
+      threadPool.setVirtualThreadsExecutor(virtualThreadsExecutor);
+    } else {
+      options
+          .notifier()
+          .info(
+              "Virtual threads are not supported by this JVM. Using platform threads for requests.");
+    }
+
+    return threadPool;
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2019-2024 Thomas Akehurst
+ * Copyright (C) 2019-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -31,6 +31,7 @@ import com.github.tomakehurst.wiremock.core.Options;
 import com.github.tomakehurst.wiremock.http.AdminRequestHandler;
 import com.github.tomakehurst.wiremock.http.RequestHandler;
 import com.github.tomakehurst.wiremock.http.StubRequestHandler;
+import com.github.tomakehurst.wiremock.jetty.GzipPolicy;
 import com.github.tomakehurst.wiremock.jetty.JettyFaultInjectorFactory;
 import com.github.tomakehurst.wiremock.jetty.JettyHttpServer;
 import com.github.tomakehurst.wiremock.jetty.JettyHttpUtils;
@@ -397,6 +398,13 @@ public class Jetty11HttpServer extends JettyHttpServer {
       gzipHandler.addIncludedMethods(GZIPPABLE_METHODS);
       gzipHandler.setHandler(mockServiceContext);
       gzipHandler.setVary(null);
+      mockServiceContext.setAttribute(
+          GzipPolicy.KEY,
+          new GzipPolicy(
+              gzipHandler.getIncludedMethods(),
+              gzipHandler.getExcludedMethods(),
+              gzipHandler::isMimeTypeGzipable,
+              gzipHandler.getMinGzipSize()));
       handlers.addHandler(gzipHandler);
     } catch (Exception e) {
       throwUnchecked(e);
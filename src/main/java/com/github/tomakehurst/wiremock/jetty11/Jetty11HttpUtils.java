@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2015-2024 Thomas Akehurst
+ * Copyright (C) 2015-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,16 +19,20 @@ import static com.github.tomakehurst.wiremock.common.Exceptions.throwUnchecked;
 import static com.github.tomakehurst.wiremock.jetty11.HttpsProxyDetectingHandler.IS_HTTPS_PROXY_REQUEST_ATTRIBUTE;
 
 import com.github.tomakehurst.wiremock.jetty.JettyHttpUtils;
+import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
 import java.net.Socket;
+import java.nio.ByteBuffer;
 import java.nio.channels.SocketChannel;
 import org.eclipse.jetty.io.EndPoint;
 import org.eclipse.jetty.io.SelectableChannelEndPoint;
 import org.eclipse.jetty.io.ssl.SslConnection;
 import org.eclipse.jetty.server.HttpChannel;
+import org.eclipse.jetty.server.HttpOutput;
 import org.eclipse.jetty.server.Request;
 import org.eclipse.jetty.server.Response;
 
@@ -86,6 +90,16 @@ public class Jetty11HttpUtils implements JettyHttpUtils {
     return jettyResponse.getHttpOutput().getHttpChannel().getEndPoint();
   }
 
+  @Override
+  public boolean writeDirectly(ServletOutputStream out, ByteBuffer content) throws IOException {
+    if (out instanceof HttpOutput) {
+      ((HttpOutput) out).write(content);
+      return true;
+    }
+
+    return false;
+  }
+
   @Override
   public boolean isBrowserProxyRequest(HttpServletRequest request) {
     if (request instanceof Request) {
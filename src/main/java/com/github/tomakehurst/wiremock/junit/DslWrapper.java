@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2021-2024 Thomas Akehurst
+ * Copyright (C) 2021-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -166,6 +166,11 @@ public class DslWrapper implements Admin, Stubbing {
     return admin.getAllScenarios();
   }
 
+  @Override
+  public GetStubStatisticsResult getStubStatistics() {
+    return admin.getStubStatistics();
+  }
+
   @Override
   public void resetScenario(String name) {
     admin.resetScenario(name);
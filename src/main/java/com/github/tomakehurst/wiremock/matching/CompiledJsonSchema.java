@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.matching;
+
+import static com.github.tomakehurst.wiremock.common.Exceptions.throwUnchecked;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.common.Errors;
+import com.github.tomakehurst.wiremock.common.Json;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.JsonSchemaFactory;
+import com.networknt.schema.SchemaValidatorsConfig;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A JSON schema compiled for validation, or the errors that stopped it compiling. Compiled schemas
+ * are immutable and cached by their content and version, so stubs with identical schemas, e.g. ones
+ * generated from the same OpenAPI spec, share a single instance, including across stub reloads.
+ */
+class CompiledJsonSchema {
+
+  static final long MAX_CACHE_ENTRIES = 1000;
+
+  private static final Cache<List<Object>, CompiledJsonSchema> CACHE =
+      CacheBuilder.newBuilder().maximumSize(MAX_CACHE_ENTRIES).build();
+
+  final JsonSchema schema;
+  final int propertyCount;
+  final Errors invalidSchemaErrors;
+
+  private CompiledJsonSchema(JsonSchema schema, int propertyCount, Errors invalidSchemaErrors) {
+    this.schema = schema;
+    this.propertyCount = propertyCount;
+    this.invalidSchemaErrors = invalidSchemaErrors;
+  }
+
+  static CompiledJsonSchema of(JsonNode schemaJson, WireMock.JsonSchemaVersion schemaVersion) {
+    try {
+      return CACHE.get(
+          List.of(schemaJson, schemaVersion), () -> compile(schemaJson, schemaVersion));
+    } catch (ExecutionException e) {
+      return throwUnchecked(e.getCause(), CompiledJsonSchema.class);
+    }
+  }
+
+  private static CompiledJsonSchema compile(
+      JsonNode schemaJson, WireMock.JsonSchemaVersion schemaVersion) {
+    SchemaValidatorsConfig config = new SchemaValidatorsConfig();
+    config.setTypeLoose(false);
+    config.setHandleNullableField(true);
+
+    final JsonSchemaFactory schemaFactory =
+        JsonSchemaFactory.getInstance(schemaVersion.toVersionFlag());
+    try {
+      return new CompiledJsonSchema(
+          schemaFactory.getSchema(schemaJson, config), Json.schemaPropertyCount(schemaJson), null);
+    } catch (Exception e) {
+      return new CompiledJsonSchema(null, 0, MatchesJsonSchemaPattern.getInvalidSchemaErrors(e));
+    }
+  }
+}
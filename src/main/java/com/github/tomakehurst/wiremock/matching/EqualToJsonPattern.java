@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2024 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,12 +15,15 @@
  */
 package com.github.tomakehurst.wiremock.matching;
 
+import static com.github.tomakehurst.wiremock.common.Lazy.lazy;
 import static com.github.tomakehurst.wiremock.stubbing.SubEvent.JSON_ERROR;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.github.tomakehurst.wiremock.common.Json;
 import com.github.tomakehurst.wiremock.common.JsonException;
+import com.github.tomakehurst.wiremock.common.Lazy;
+import com.github.tomakehurst.wiremock.common.RequestBodyViews;
 import com.github.tomakehurst.wiremock.stubbing.SubEvent;
 import net.javacrumbs.jsonunit.core.Configuration;
 import net.javacrumbs.jsonunit.core.Option;
@@ -35,6 +38,7 @@ public class EqualToJsonPattern extends StringValuePattern {
   private final Boolean ignoreArrayOrder;
   private final Boolean ignoreExtraElements;
   private final Boolean serializeAsString;
+  private final JsonEquality equality;
 
   public EqualToJsonPattern(
       @JsonProperty("equalToJson") String json,
@@ -45,6 +49,7 @@ public class EqualToJsonPattern extends StringValuePattern {
     this.ignoreArrayOrder = ignoreArrayOrder;
     this.ignoreExtraElements = ignoreExtraElements;
     this.serializeAsString = true;
+    this.equality = equalityFor(expected);
   }
 
   public EqualToJsonPattern(
@@ -54,38 +59,56 @@ public class EqualToJsonPattern extends StringValuePattern {
     this.ignoreArrayOrder = ignoreArrayOrder;
     this.ignoreExtraElements = ignoreExtraElements;
     this.serializeAsString = false;
+    this.equality = equalityFor(expected);
   }
 
   @Override
   public MatchResult match(String value) {
-    final CountingDiffListener diffListener = new CountingDiffListener();
-    Configuration diffConfig =
-        Configuration.empty()
-            .withDifferenceListener(diffListener)
-            .withNumberComparator(new NormalisedNumberComparator());
+    final JsonNode actual;
+    try {
+      actual = RequestBodyViews.json(value);
+    } catch (JsonException je) {
+      return MatchResult.noMatch(new SubEvent(JSON_ERROR, je.getErrors()));
+    } catch (Exception e) {
+      return MatchResult.noMatch(SubEvent.warning(e.getMessage()));
+    }
 
-    if (shouldIgnoreArrayOrder()) {
-      diffConfig = diffConfig.withOptions(Option.IGNORING_ARRAY_ORDER);
+    final JsonEquality.Outcome outcome =
+        equality != null ? equality.compare(expected, actual) : JsonEquality.Outcome.UNDECIDED;
+    if (outcome == JsonEquality.Outcome.MATCH) {
+      return MatchResult.exactMatch();
     }
 
-    if (shouldIgnoreExtraElements()) {
-      diffConfig =
-          diffConfig.withOptions(Option.IGNORING_EXTRA_ARRAY_ITEMS, Option.IGNORING_EXTRA_FIELDS);
+    if (outcome == JsonEquality.Outcome.NO_MATCH) {
+      // The diff is only needed to work out how near a miss this was, and only once
+      final Lazy<Double> distance =
+          lazy(
+              () -> {
+                try {
+                  final CountingDiffListener diffListener = new CountingDiffListener();
+                  createDiff(actual, diffListener).similar();
+                  return diffListener.count / (double) maxDeepSize(expected, actual);
+                } catch (Exception e) {
+                  return 1.0;
+                }
+              });
+      return new MatchResult() {
+        @Override
+        public boolean isExactMatch() {
+          return false;
+        }
+
+        @Override
+        public double getDistance() {
+          return distance.get();
+        }
+      };
     }
 
-    final JsonNode actual;
+    final CountingDiffListener diffListener = new CountingDiffListener();
     final Diff diff;
     try {
-      actual = Json.read(value, JsonNode.class);
-      diff =
-          Diff.create(
-              expected, // JsonUnit knows how to work with JsonNode
-              actual,
-              "",
-              "",
-              diffConfig);
-    } catch (JsonException je) {
-      return MatchResult.noMatch(new SubEvent(JSON_ERROR, je.getErrors()));
+      diff = createDiff(actual, diffListener);
     } catch (Exception e) {
       return MatchResult.noMatch(SubEvent.warning(e.getMessage()));
     }
@@ -105,6 +128,35 @@ public class EqualToJsonPattern extends StringValuePattern {
     };
   }
 
+  private Diff createDiff(JsonNode actual, DifferenceListener diffListener) {
+    Configuration diffConfig =
+        Configuration.empty()
+            .withDifferenceListener(diffListener)
+            .withNumberComparator(new NormalisedNumberComparator());
+
+    if (shouldIgnoreArrayOrder()) {
+      diffConfig = diffConfig.withOptions(Option.IGNORING_ARRAY_ORDER);
+    }
+
+    if (shouldIgnoreExtraElements()) {
+      diffConfig =
+          diffConfig.withOptions(Option.IGNORING_EXTRA_ARRAY_ITEMS, Option.IGNORING_EXTRA_FIELDS);
+    }
+
+    return Diff.create(
+        expected, // JsonUnit knows how to work with JsonNode
+        actual,
+        "",
+        "",
+        diffConfig);
+  }
+
+  private JsonEquality equalityFor(JsonNode expected) {
+    return JsonEquality.isSupported(expected)
+        ? new JsonEquality(shouldIgnoreArrayOrder(), shouldIgnoreExtraElements())
+        : null;
+  }
+
   @JsonProperty("equalToJson")
   public Object getSerializedEqualToJson() {
     return serializeAsString ? getValue() : Json.read(getValue(), JsonNode.class);
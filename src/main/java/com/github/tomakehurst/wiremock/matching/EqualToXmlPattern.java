@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2025 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,7 +22,9 @@ import static org.xmlunit.diff.ComparisonType.*;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.github.tomakehurst.wiremock.common.RequestBodyViews;
 import com.github.tomakehurst.wiremock.common.xml.Xml;
+import com.github.tomakehurst.wiremock.common.xml.XmlException;
 import com.github.tomakehurst.wiremock.stubbing.SubEvent;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -167,10 +169,23 @@ public class EqualToXmlPattern extends StringValuePattern {
         if (isNullOrEmpty(value)) {
           return false;
         }
+
+        final Document actualXmlDoc;
+        try {
+          actualXmlDoc = RequestBodyViews.dom(value, documentBuilderFactory);
+        } catch (XmlException e) {
+          return failedToProcess(e.getErrors().first().getTitle());
+        }
+
+        // Identical documents can't have any differences, whatever the comparison settings
+        if (expectedXmlDoc.isEqualNode(actualXmlDoc)) {
+          return true;
+        }
+
         try {
           DiffBuilder diffBuilder =
               DiffBuilder.compare(Input.from(expectedXmlDoc))
-                  .withTest(value)
+                  .withTest(Input.from(actualXmlDoc))
                   .withComparisonController(ComparisonControllers.StopWhenDifferent)
                   .ignoreWhitespace()
                   .withDifferenceEvaluator(diffEvaluator)
@@ -184,20 +199,24 @@ public class EqualToXmlPattern extends StringValuePattern {
 
           return !diff.hasDifferences();
         } catch (XMLUnitException e) {
-          appendSubEvent(SubEvent.warning(e.getMessage()));
-
-          notifier()
-              .info(
-                  "Failed to process XML. "
-                      + e.getMessage()
-                      + "\nExpected:\n"
-                      + expectedValue
-                      + "\n\nActual:\n"
-                      + value);
-          return false;
+          return failedToProcess(e.getMessage());
         }
       }
 
+      private boolean failedToProcess(String message) {
+        appendSubEvent(SubEvent.warning(message));
+
+        notifier()
+            .info(
+                "Failed to process XML. "
+                    + message
+                    + "\nExpected:\n"
+                    + expectedValue
+                    + "\n\nActual:\n"
+                    + value);
+        return false;
+      }
+
       @Override
       public double getDistance() {
         if (isNullOrEmpty(value)) {
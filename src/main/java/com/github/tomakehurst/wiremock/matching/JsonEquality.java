@@ -0,0 +1,183 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.matching;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Decides whether two JSON trees are equal under {@link EqualToJsonPattern}'s rules without
+ * building a diff, stopping at the first difference. Numbers are compared by value as with {@link
+ * NormalisedNumberComparator}.
+ *
+ * <p>Where the answer can't be reached cheaply, e.g. when matching unordered arrays whose elements
+ * match more than one candidate, the outcome is {@link Outcome#UNDECIDED} and the caller should
+ * fall back to a full diff.
+ */
+class JsonEquality {
+
+  enum Outcome {
+    MATCH,
+    NO_MATCH,
+    UNDECIDED
+  }
+
+  private final boolean ignoreArrayOrder;
+  private final boolean ignoreExtraElements;
+
+  JsonEquality(boolean ignoreArrayOrder, boolean ignoreExtraElements) {
+    this.ignoreArrayOrder = ignoreArrayOrder;
+    this.ignoreExtraElements = ignoreExtraElements;
+  }
+
+  /**
+   * Whether the tree can be compared by this class at all. JsonUnit placeholders such as {@code
+   * ${json-unit.any-string}} need the full diff.
+   */
+  static boolean isSupported(JsonNode expected) {
+    if (expected.isTextual()) {
+      final String text = expected.textValue();
+      return !text.contains("${json-unit.") && !text.contains("#{json-unit.");
+    }
+
+    if (expected.isContainerNode()) {
+      for (JsonNode child : expected) {
+        if (!isSupported(child)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    return expected.isNumber() || expected.isBoolean() || expected.isNull();
+  }
+
+  Outcome compare(JsonNode expected, JsonNode actual) {
+    if (expected.isObject()) {
+      return actual.isObject() ? compareObjects(expected, actual) : Outcome.NO_MATCH;
+    }
+
+    if (expected.isArray()) {
+      return actual.isArray() ? compareArrays(expected, actual) : Outcome.NO_MATCH;
+    }
+
+    if (expected.isNumber()) {
+      return outcomeOf(
+          actual.isNumber() && expected.decimalValue().compareTo(actual.decimalValue()) == 0);
+    }
+
+    if (expected.isTextual() || expected.isBoolean() || expected.isNull()) {
+      return outcomeOf(expected.equals(actual));
+    }
+
+    return Outcome.UNDECIDED;
+  }
+
+  private Outcome compareObjects(JsonNode expected, JsonNode actual) {
+    if (expected.size() > actual.size()
+        || (!ignoreExtraElements && expected.size() != actual.size())) {
+      return Outcome.NO_MATCH;
+    }
+
+    boolean undecided = false;
+    final Iterator<Map.Entry<String, JsonNode>> fields = expected.fields();
+    while (fields.hasNext()) {
+      final Map.Entry<String, JsonNode> field = fields.next();
+      final JsonNode actualValue = actual.get(field.getKey());
+      if (actualValue == null) {
+        return Outcome.NO_MATCH;
+      }
+
+      final Outcome outcome = compare(field.getValue(), actualValue);
+      if (outcome == Outcome.NO_MATCH) {
+        return Outcome.NO_MATCH;
+      }
+      undecided |= outcome == Outcome.UNDECIDED;
+    }
+
+    return undecided ? Outcome.UNDECIDED : Outcome.MATCH;
+  }
+
+  private Outcome compareArrays(JsonNode expected, JsonNode actual) {
+    if (expected.size() > actual.size()
+        || (!ignoreExtraElements && expected.size() != actual.size())) {
+      return Outcome.NO_MATCH;
+    }
+
+    if (ignoreArrayOrder) {
+      return compareUnorderedArrays(expected, actual);
+    }
+
+    if (expected.size() != actual.size()) {
+      return Outcome.UNDECIDED;
+    }
+
+    boolean undecided = false;
+    for (int i = 0; i < expected.size(); i++) {
+      final Outcome outcome = compare(expected.get(i), actual.get(i));
+      if (outcome == Outcome.NO_MATCH) {
+        return Outcome.NO_MATCH;
+      }
+      undecided |= outcome == Outcome.UNDECIDED;
+    }
+
+    return undecided ? Outcome.UNDECIDED : Outcome.MATCH;
+  }
+
+  /**
+   * Pairs each expected element with the first unused actual element it matches. Without extra
+   * elements matching is an equivalence, so if that fails the arrays differ. With extra elements an
+   * earlier pairing may have taken an element a later one needed, so only an expected element that
+   * matches nothing at all is a definite mismatch.
+   */
+  private Outcome compareUnorderedArrays(JsonNode expected, JsonNode actual) {
+    final boolean[] used = new boolean[actual.size()];
+    boolean undecided = false;
+
+    for (JsonNode expectedElement : expected) {
+      int firstUnusedMatch = -1;
+      boolean matchesUsedElement = false;
+      for (int i = 0; i < actual.size() && firstUnusedMatch < 0; i++) {
+        final Outcome outcome = compare(expectedElement, actual.get(i));
+        if (outcome == Outcome.UNDECIDED) {
+          return Outcome.UNDECIDED;
+        }
+        if (outcome == Outcome.MATCH) {
+          if (used[i]) {
+            matchesUsedElement = true;
+          } else {
+            firstUnusedMatch = i;
+          }
+        }
+      }
+
+      if (firstUnusedMatch >= 0) {
+        used[firstUnusedMatch] = true;
+      } else if (!ignoreExtraElements || !matchesUsedElement) {
+        return Outcome.NO_MATCH;
+      } else {
+        undecided = true;
+      }
+    }
+
+    return undecided ? Outcome.UNDECIDED : Outcome.MATCH;
+  }
+
+  private static Outcome outcomeOf(boolean isMatch) {
+    return isMatch ? Outcome.MATCH : Outcome.NO_MATCH;
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2024 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,6 +24,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.github.tomakehurst.wiremock.common.Json;
 import com.github.tomakehurst.wiremock.common.ListOrSingle;
+import com.github.tomakehurst.wiremock.common.RequestBodyViews;
 import com.github.tomakehurst.wiremock.common.RequestCache;
 import com.github.tomakehurst.wiremock.stubbing.SubEvent;
 import com.jayway.jsonpath.DocumentContext;
@@ -193,12 +194,9 @@ public class MatchesJsonPathPattern extends PathPattern {
 
     final RequestCache requestCache = RequestCache.getCurrent();
 
-    final DocumentContext documentContext =
-        requestCache.get(
-            keyFor(JsonNode.class, "parsedJson", value.hashCode()), () -> JsonPath.parse(value));
-
+    final DocumentContext documentContext = RequestBodyViews.jsonPathDocument(value);
     return requestCache.get(
-        keyFor(JsonNode.class, "jsonPathResult", expectedValue, value.hashCode()),
+        keyFor(JsonNode.class, "jsonPathResult", expectedValue, value),
         () -> documentContext.read(jsonPath));
   }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2023-2024 Thomas Akehurst
+ * Copyright (C) 2023-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,10 +23,9 @@ import com.github.tomakehurst.wiremock.common.ClientError;
 import com.github.tomakehurst.wiremock.common.Errors;
 import com.github.tomakehurst.wiremock.common.Json;
 import com.github.tomakehurst.wiremock.common.JsonException;
+import com.github.tomakehurst.wiremock.common.RequestBodyViews;
 import com.github.tomakehurst.wiremock.stubbing.SubEvent;
 import com.networknt.schema.JsonSchema;
-import com.networknt.schema.JsonSchemaFactory;
-import com.networknt.schema.SchemaValidatorsConfig;
 import com.networknt.schema.ValidationMessage;
 import java.util.Set;
 
@@ -46,30 +45,12 @@ public class MatchesJsonSchemaPattern extends StringValuePattern {
       @JsonProperty("schemaVersion") WireMock.JsonSchemaVersion schemaVersion) {
     super(schemaJson);
 
-    SchemaValidatorsConfig config = new SchemaValidatorsConfig();
-    config.setTypeLoose(false);
-    config.setHandleNullableField(true);
-
-    final JsonSchemaFactory schemaFactory =
-        JsonSchemaFactory.getInstance(schemaVersion.toVersionFlag());
-    JsonSchema schema;
-    JsonNode schemaAsJson = Json.read(schemaJson, JsonNode.class);
-    int schemaPropertyCount;
-    Errors invalidSchemaErrors;
-    try {
-      schema = schemaFactory.getSchema(schemaAsJson, config);
-      schemaPropertyCount = Json.schemaPropertyCount(schemaAsJson);
-      invalidSchemaErrors = null;
-    } catch (Exception e) {
-      schema = null;
-      schemaPropertyCount = 0;
-      invalidSchemaErrors = getInvalidSchemaErrors(e);
-    }
-    this.schema = schema;
+    final CompiledJsonSchema compiled =
+        CompiledJsonSchema.of(Json.read(schemaJson, JsonNode.class), schemaVersion);
+    this.schema = compiled.schema;
     this.schemaVersion = schemaVersion;
-
-    this.schemaPropertyCount = schemaPropertyCount;
-    this.invalidSchemaErrors = invalidSchemaErrors;
+    this.schemaPropertyCount = compiled.propertyCount;
+    this.invalidSchemaErrors = compiled.invalidSchemaErrors;
   }
 
   public MatchesJsonSchemaPattern(
@@ -101,7 +82,7 @@ public class MatchesJsonSchemaPattern extends StringValuePattern {
 
     JsonNode jsonNode;
     try {
-      jsonNode = Json.read(json, JsonNode.class);
+      jsonNode = RequestBodyViews.json(json);
     } catch (JsonException je) {
       jsonNode = new TextNode(json);
     }
@@ -134,7 +115,7 @@ public class MatchesJsonSchemaPattern extends StringValuePattern {
     };
   }
 
-  private static Errors getInvalidSchemaErrors(Exception e) {
+  static Errors getInvalidSchemaErrors(Exception e) {
     Errors invalidSchemaErrors;
     if (e instanceof ClientError) {
       Errors.Error error = ((ClientError) e).getErrors().first();
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2023 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,7 @@ import com.fasterxml.jackson.annotation.JsonGetter;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.github.tomakehurst.wiremock.common.ListOrSingle;
+import com.github.tomakehurst.wiremock.common.RequestBodyViews;
 import com.github.tomakehurst.wiremock.common.xml.*;
 import com.github.tomakehurst.wiremock.stubbing.SubEvent;
 import java.util.*;
@@ -111,7 +112,7 @@ public class MatchesXPathPattern extends PathPattern {
     }
 
     try {
-      XmlDocument xmlDocument = Xml.parse(value);
+      XmlDocument xmlDocument = RequestBodyViews.xmlDocument(value);
       return new XmlNodeFindResult(xmlDocument.findNodes(expectedValue, xpathNamespaces));
     } catch (XmlException e) {
       final String message =
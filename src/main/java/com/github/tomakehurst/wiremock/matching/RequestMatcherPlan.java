@@ -0,0 +1,299 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.matching;
+
+import static com.github.tomakehurst.wiremock.common.ContentTypes.AUTHORIZATION;
+import static com.github.tomakehurst.wiremock.common.ParameterUtils.getFirstNonNull;
+import static com.github.tomakehurst.wiremock.matching.RequestMatcherExtension.NEVER;
+
+import com.github.tomakehurst.wiremock.common.url.PathTemplate;
+import com.github.tomakehurst.wiremock.http.CaseInsensitiveKey;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.http.RequestPathParamsDecorator;
+import com.github.tomakehurst.wiremock.stubbing.SubEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * A request pattern compiled into a flat array of the checks needed to decide whether a request is
+ * an exact match, so the pattern's object graph doesn't need to be walked for every request. Checks
+ * are ordered cheapest first, parts the pattern doesn't constrain have no check at all, and header
+ * lookups use case insensitive keys resolved at compile time.
+ *
+ * <p>Like {@link RequestPattern#matchExactly(Request, Map)}, the result's distance is only ever 0
+ * or 1, so plans are suitable for serving and verification but not for near misses or diffs.
+ */
+public class RequestMatcherPlan {
+
+  private interface Check {
+    MatchResult match(Request request, Map<String, RequestMatcherExtension> customMatchers);
+  }
+
+  private static final String REGEX_METACHARACTERS = "\\^$.|?*+()[]{}";
+
+  private final PathTemplate pathTemplate;
+  private final Check[] checks;
+  private final List<String> requiredBodyLiterals;
+
+  private RequestMatcherPlan(
+      PathTemplate pathTemplate, List<Check> checks, List<String> requiredBodyLiterals) {
+    this.pathTemplate = pathTemplate;
+    this.checks = checks.toArray(new Check[0]);
+    this.requiredBodyLiterals = requiredBodyLiterals;
+  }
+
+  public static RequestMatcherPlan compile(RequestPattern pattern) {
+    final List<Check> checks = new ArrayList<>();
+    final UrlPattern url = pattern.getUrlMatcher();
+    final PathTemplate pathTemplate = url.getPathTemplate();
+
+    final RequestMethod method = pattern.getMethod();
+    if (!method.equals(RequestMethod.ANY)) {
+      checks.add((request, customMatchers) -> method.match(request.getMethod()));
+    }
+
+    if (!url.equals(UrlPattern.ANY)) {
+      checks.add(
+          (request, customMatchers) ->
+              RequestPathParamsDecorator.hasResolvedPathParams(request, pathTemplate)
+                  ? MatchResult.exactMatch()
+                  : url.match(request.getUrl()));
+    }
+
+    final String scheme = pattern.getScheme();
+    if (scheme != null) {
+      checks.add((request, customMatchers) -> MatchResult.of(scheme.equals(request.getScheme())));
+    }
+
+    final StringValuePattern host = pattern.getHost();
+    if (host != null) {
+      checks.add((request, customMatchers) -> host.match(request.getHost()));
+    }
+
+    final Integer port = pattern.getPort();
+    if (port != null) {
+      checks.add((request, customMatchers) -> MatchResult.of(request.getPort() == port));
+    }
+
+    addPathParamChecks(checks, pattern);
+    addHeaderChecks(checks, pattern);
+    forEachEntry(
+        pattern.getQueryParameters(),
+        (name, valuePattern) ->
+            checks.add(
+                (request, customMatchers) -> valuePattern.match(request.queryParameter(name))));
+    forEachEntry(
+        pattern.getFormParameters(),
+        (name, valuePattern) ->
+            checks.add(
+                (request, customMatchers) -> valuePattern.match(request.formParameter(name))));
+    forEachEntry(
+        pattern.getCookies(),
+        (name, valuePattern) ->
+            checks.add(
+                (request, customMatchers) ->
+                    RequestPattern.cookieMatch(request, name, valuePattern)));
+    addBodyChecks(checks, pattern);
+    addMultipartCheck(checks, pattern);
+    addCustomMatcherChecks(checks, pattern);
+
+    return new RequestMatcherPlan(pathTemplate, checks, requiredBodyLiteralsOf(pattern));
+  }
+
+  private static void addPathParamChecks(List<Check> checks, RequestPattern pattern) {
+    if (!pattern.getUrlMatcher().getClass().equals(UrlPathTemplatePattern.class)) {
+      return;
+    }
+
+    forEachEntry(
+        pattern.getPathParameters(),
+        (name, valuePattern) ->
+            checks.add(
+                (request, customMatchers) ->
+                    valuePattern.match(request.getPathParameters().get(name))));
+  }
+
+  private static void addHeaderChecks(List<Check> checks, RequestPattern pattern) {
+    forEachEntry(
+        pattern.getHeaders(),
+        (name, valuePattern) -> {
+          if (pattern.getBasicAuthCredentials() == null || !AUTHORIZATION.equals(name)) {
+            addHeaderCheck(checks, name, valuePattern);
+          }
+        });
+
+    if (pattern.getBasicAuthCredentials() != null) {
+      addHeaderCheck(
+          checks,
+          AUTHORIZATION,
+          pattern.getBasicAuthCredentials().asAuthorizationMultiValuePattern());
+    }
+  }
+
+  private static void addHeaderCheck(
+      List<Check> checks, String name, MultiValuePattern valuePattern) {
+    final CaseInsensitiveKey key = CaseInsensitiveKey.from(name);
+    checks.add((request, customMatchers) -> valuePattern.match(request.header(key)));
+  }
+
+  private static void addBodyChecks(List<Check> checks, RequestPattern pattern) {
+    final List<ContentPattern<?>> bodyPatterns = pattern.getBodyPatterns();
+    if (bodyPatterns == null) {
+      return;
+    }
+
+    for (ContentPattern<?> bodyPattern : bodyPatterns) {
+      checks.add(
+          (request, customMatchers) ->
+              request.getBody() == null
+                  ? MatchResult.exactMatch()
+                  : RequestPattern.bodyPatternMatch(request, bodyPattern));
+    }
+  }
+
+  private static List<String> requiredBodyLiteralsOf(RequestPattern pattern) {
+    final List<ContentPattern<?>> bodyPatterns = pattern.getBodyPatterns();
+    if (bodyPatterns == null) {
+      return List.of();
+    }
+
+    final List<String> literals = new ArrayList<>();
+    for (ContentPattern<?> bodyPattern : bodyPatterns) {
+      final String literal;
+      if (bodyPattern.getClass().equals(ContainsPattern.class)) {
+        literal = ((ContainsPattern) bodyPattern).getContains();
+      } else if (bodyPattern.getClass().equals(RegexPattern.class)) {
+        literal = literalPrefixOf(((RegexPattern) bodyPattern).getMatches());
+      } else {
+        literal = null;
+      }
+
+      if (literal != null && !literal.isEmpty()) {
+        literals.add(literal);
+      }
+    }
+
+    return List.copyOf(literals);
+  }
+
+  /**
+   * The plain text any string matching the whole regex must start with, or empty if there isn't one
+   * that can be found without parsing the regex. Regexes with alternation are never given a prefix.
+   */
+  static String literalPrefixOf(String regex) {
+    if (regex == null || regex.indexOf('|') >= 0) {
+      return "";
+    }
+
+    final int start = regex.startsWith("^") ? 1 : 0;
+    int end = start;
+    while (end < regex.length() && REGEX_METACHARACTERS.indexOf(regex.charAt(end)) < 0) {
+      end++;
+    }
+
+    // A quantifier applies to the character before it, so that one might not be present
+    if (end < regex.length() && "?*+{".indexOf(regex.charAt(end)) >= 0 && end > start) {
+      end--;
+    }
+
+    return regex.substring(start, end);
+  }
+
+  private static void addMultipartCheck(List<Check> checks, RequestPattern pattern) {
+    final List<MultipartValuePattern> multipartPatterns = pattern.getMultipartPatterns();
+    if (multipartPatterns == null || multipartPatterns.isEmpty()) {
+      return;
+    }
+
+    checks.add(
+        (request, customMatchers) -> {
+          if (!request.isMultipart()) {
+            return MatchResult.noMatch();
+          }
+
+          final List<MatchResult> results = new ArrayList<>(multipartPatterns.size());
+          for (MultipartValuePattern multipartPattern : multipartPatterns) {
+            results.add(multipartPattern.match(request));
+          }
+          return MatchResult.aggregate(results);
+        });
+  }
+
+  private static void addCustomMatcherChecks(List<Check> checks, RequestPattern pattern) {
+    if (pattern.hasInlineCustomMatcher()) {
+      final ValueMatcher<Request> inlineCustomMatcher = pattern.getInlineCustomMatcher();
+      checks.add((request, customMatchers) -> inlineCustomMatcher.match(request));
+    }
+
+    final CustomMatcherDefinition definition = pattern.getCustomMatcher();
+    if (definition != null) {
+      checks.add(
+          (request, customMatchers) ->
+              getFirstNonNull(customMatchers.get(definition.getName()), NEVER)
+                  .match(request, definition.getParameters()));
+    }
+  }
+
+  private static <T> void forEachEntry(Map<String, T> patterns, BiConsumer<String, T> action) {
+    if (patterns != null) {
+      patterns.forEach(action);
+    }
+  }
+
+  /**
+   * Evaluates the checks in order, stopping at the first that doesn't match. The returned result
+   * carries the sub-events of every check that was evaluated.
+   */
+  public MatchResult match(Request request, Map<String, RequestMatcherExtension> customMatchers) {
+    final Request decoratedRequest = RequestPathParamsDecorator.decorate(request, pathTemplate);
+
+    List<SubEvent> subEvents = null;
+    for (Check check : checks) {
+      final MatchResult result = check.match(decoratedRequest, customMatchers);
+      // Some results only record their sub-events once they've been evaluated
+      final boolean isExactMatch = result.isExactMatch();
+      final List<SubEvent> checkSubEvents = result.getSubEvents();
+      if (!checkSubEvents.isEmpty()) {
+        if (subEvents == null) {
+          subEvents = new ArrayList<>(checkSubEvents.size());
+        }
+        subEvents.addAll(checkSubEvents);
+      }
+
+      if (!isExactMatch) {
+        return MatchResult.of(false, subEvents != null ? subEvents : List.of());
+      }
+    }
+
+    return MatchResult.of(true, subEvents != null ? subEvents : List.of());
+  }
+
+  /**
+   * Literals that must all appear in a request body for the body patterns to match, taken from
+   * {@code contains} patterns and the plain text prefixes of {@code matches} patterns. Requests
+   * without a body skip the body patterns, so this only applies when there is one.
+   */
+  public List<String> getRequiredBodyLiterals() {
+    return requiredBodyLiterals;
+  }
+
+  public boolean isMatchedBy(Request request, Map<String, RequestMatcherExtension> customMatchers) {
+    return match(request, customMatchers).isExactMatch();
+  }
+}
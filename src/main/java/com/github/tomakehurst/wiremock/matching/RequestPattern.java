@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2011-2024 Thomas Akehurst
+ * Copyright (C) 2011-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -29,16 +29,13 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.github.tomakehurst.wiremock.client.BasicCredentials;
 import com.github.tomakehurst.wiremock.common.Json;
-import com.github.tomakehurst.wiremock.common.Urls;
 import com.github.tomakehurst.wiremock.common.url.PathParams;
-import com.github.tomakehurst.wiremock.common.url.PathTemplate;
 import com.github.tomakehurst.wiremock.http.Cookie;
 import com.github.tomakehurst.wiremock.http.Request;
 import com.github.tomakehurst.wiremock.http.RequestMethod;
 import com.github.tomakehurst.wiremock.http.RequestPathParamsDecorator;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import java.util.*;
-import java.util.function.Function;
 import java.util.function.Predicate;
 
 public class RequestPattern implements NamedValueMatcher<Request> {
@@ -60,6 +57,7 @@ public class RequestPattern implements NamedValueMatcher<Request> {
 
   private final CustomMatcherDefinition customMatcherDefinition;
   private final ValueMatcher<Request> matcher;
+  private final ValueMatcher<Request> inlineCustomMatcher;
   private final boolean hasInlineCustomMatcher;
 
   public RequestPattern(
@@ -92,6 +90,7 @@ public class RequestPattern implements NamedValueMatcher<Request> {
     this.bodyPatterns = bodyPatterns;
     this.customMatcherDefinition = customMatcherDefinition;
     this.multipartPatterns = multiPattern;
+    this.inlineCustomMatcher = customMatcher;
     this.hasInlineCustomMatcher = customMatcher != null;
 
     this.matcher =
@@ -103,8 +102,7 @@ public class RequestPattern implements NamedValueMatcher<Request> {
             requestPartMatchResults.add(weight(schemeMatches(request), 3.0));
             requestPartMatchResults.add(weight(hostMatches(request), 10.0));
             requestPartMatchResults.add(weight(portMatches(request), 10.0));
-            requestPartMatchResults.add(
-                weight(RequestPattern.this.url.match(request.getUrl()), 10.0));
+            requestPartMatchResults.add(weight(urlMatches(request), 10.0));
             requestPartMatchResults.add(
                 weight(RequestPattern.this.method.match(request.getMethod()), 3.0));
 
@@ -260,31 +258,44 @@ public class RequestPattern implements NamedValueMatcher<Request> {
     return standardMatchResult;
   }
 
+  /**
+   * Determines whether the request is an exact match without computing a distance, so is suitable
+   * for serving and verification but not for near misses or diffs. Request parts are evaluated
+   * cheapest first and evaluation stops at the first part that doesn't match.
+   *
+   * <p>The returned result carries the sub-events of every part that was evaluated, but its
+   * distance is only ever 0 or 1. When matching many requests against the same pattern, compile it
+   * once with {@link RequestMatcherPlan#compile(RequestPattern)} instead.
+   */
+  public MatchResult matchExactly(
+      Request request, Map<String, RequestMatcherExtension> customMatchers) {
+    return RequestMatcherPlan.compile(this).match(request, customMatchers);
+  }
+
   private MatchResult allCookiesMatch(final Request request) {
     if (cookies != null && !cookies.isEmpty()) {
       return MatchResult.aggregate(
           cookies.entrySet().stream()
-              .map(
-                  entry -> {
-                    final StringValuePattern cookiePattern = entry.getValue();
-                    Cookie cookie = request.getCookies().get(entry.getKey());
-                    if (cookie == null) {
-                      return cookiePattern.nullSafeIsAbsent()
-                          ? MatchResult.exactMatch()
-                          : MatchResult.noMatch();
-                    }
-
-                    return cookie.getValues().stream()
-                        .map(cookiePattern::match)
-                        .max(Comparator.naturalOrder())
-                        .orElseGet(MatchResult::noMatch);
-                  })
+              .map(entry -> cookieMatch(request, entry.getKey(), entry.getValue()))
               .collect(toList()));
     }
 
     return MatchResult.exactMatch();
   }
 
+  static MatchResult cookieMatch(
+      final Request request, final String name, final StringValuePattern cookiePattern) {
+    Cookie cookie = request.getCookies().get(name);
+    if (cookie == null) {
+      return cookiePattern.nullSafeIsAbsent() ? MatchResult.exactMatch() : MatchResult.noMatch();
+    }
+
+    return cookie.getValues().stream()
+        .map(cookiePattern::match)
+        .max(Comparator.naturalOrder())
+        .orElseGet(MatchResult::noMatch);
+  }
+
   private MatchResult schemeMatches(final Request request) {
     return scheme != null
         ? MatchResult.of(scheme.equals(request.getScheme()))
@@ -299,6 +310,14 @@ public class RequestPattern implements NamedValueMatcher<Request> {
     return port != null ? MatchResult.of(request.getPort() == port) : MatchResult.exactMatch();
   }
 
+  private MatchResult urlMatches(final Request request) {
+    if (RequestPathParamsDecorator.hasResolvedPathParams(request, url.getPathTemplate())) {
+      return MatchResult.exactMatch();
+    }
+
+    return url.match(request.getUrl());
+  }
+
   private MatchResult allHeadersMatchResult(final Request request) {
     Map<String, MultiValuePattern> combinedHeaders = combineBasicAuthAndOtherHeaders();
 
@@ -357,17 +376,17 @@ public class RequestPattern implements NamedValueMatcher<Request> {
     return MatchResult.exactMatch();
   }
 
-  private MatchResult allPathParamsMatch(final Request request) {
-    if (url.getClass().equals(UrlPathTemplatePattern.class)
+  private boolean hasPathParamsToMatch() {
+    return url.getClass().equals(UrlPathTemplatePattern.class)
         && pathParams != null
-        && !pathParams.isEmpty()) {
-      final UrlPathTemplatePattern urlPathTemplatePattern = (UrlPathTemplatePattern) url;
-      final PathTemplate pathTemplate = urlPathTemplatePattern.getPathTemplate();
-      if (!pathTemplate.matches(request.getUrl())) {
-        return MatchResult.noMatch();
-      }
+        && !pathParams.isEmpty();
+  }
 
-      final PathParams requestPathParams = pathTemplate.parse(Urls.getPath(request.getUrl()));
+  private MatchResult allPathParamsMatch(final Request request) {
+    if (hasPathParamsToMatch()) {
+      // Only evaluated once the URL has matched, so the template is known to match the path
+      final PathParams requestPathParams =
+          RequestPathParamsDecorator.decorate(request, this).getPathParameters();
       return MatchResult.aggregate(
           pathParams.entrySet().stream()
               .map(entry -> entry.getValue().match(requestPathParams.get(entry.getKey())))
@@ -377,28 +396,27 @@ public class RequestPattern implements NamedValueMatcher<Request> {
     return MatchResult.exactMatch();
   }
 
-  @SuppressWarnings({"unchecked", "rawtypes"})
   private MatchResult allBodyPatternsMatch(final Request request) {
     if (bodyPatterns != null && !bodyPatterns.isEmpty() && request.getBody() != null) {
       return MatchResult.aggregate(
           bodyPatterns.stream()
-              .map(
-                  (Function<ContentPattern, MatchResult>)
-                      pattern -> {
-                        if (StringValuePattern.class.isAssignableFrom(pattern.getClass())) {
-                          String body =
-                              isEmpty(request.getBodyAsString()) ? null : request.getBodyAsString();
-                          return pattern.match(body);
-                        }
-
-                        return pattern.match(request.getBody());
-                      })
+              .map(pattern -> bodyPatternMatch(request, pattern))
               .collect(toList()));
     }
 
     return MatchResult.exactMatch();
   }
 
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  static MatchResult bodyPatternMatch(final Request request, final ContentPattern pattern) {
+    if (StringValuePattern.class.isAssignableFrom(pattern.getClass())) {
+      String body = isEmpty(request.getBodyAsString()) ? null : request.getBodyAsString();
+      return pattern.match(body);
+    }
+
+    return pattern.match(request.getBody());
+  }
+
   private MatchResult allMultipartPatternsMatch(final Request request) {
     if (multipartPatterns != null && !multipartPatterns.isEmpty()) {
       if (!request.isMultipart()) {
@@ -412,7 +430,7 @@ public class RequestPattern implements NamedValueMatcher<Request> {
   }
 
   public boolean isMatchedBy(Request request, Map<String, RequestMatcherExtension> customMatchers) {
-    return match(request, customMatchers).isExactMatch();
+    return matchExactly(request, customMatchers).isExactMatch();
   }
 
   public String getScheme() {
@@ -516,6 +534,10 @@ public class RequestPattern implements NamedValueMatcher<Request> {
     return toString();
   }
 
+  ValueMatcher<Request> getInlineCustomMatcher() {
+    return inlineCustomMatcher;
+  }
+
   public boolean hasInlineCustomMatcher() {
     return hasInlineCustomMatcher;
   }
@@ -579,15 +601,17 @@ public class RequestPattern implements NamedValueMatcher<Request> {
 
   public static Predicate<Request> thatMatch(
       final RequestPattern pattern, final Map<String, RequestMatcherExtension> customMatchers) {
-    return request -> pattern.match(request, customMatchers).isExactMatch();
+    final RequestMatcherPlan plan = RequestMatcherPlan.compile(pattern);
+    return request -> plan.isMatchedBy(request, customMatchers);
   }
 
   public static Predicate<ServeEvent> withRequestMatching(final RequestPattern pattern) {
-    return serveEvent -> pattern.match(serveEvent.getRequest()).isExactMatch();
+    return withRequestMatching(pattern, Collections.emptyMap());
   }
 
   public static Predicate<ServeEvent> withRequestMatching(
       final RequestPattern pattern, final Map<String, RequestMatcherExtension> customMatchers) {
-    return serveEvent -> pattern.match(serveEvent.getRequest(), customMatchers).isExactMatch();
+    final RequestMatcherPlan plan = RequestMatcherPlan.compile(pattern);
+    return serveEvent -> plan.isMatchedBy(serveEvent.getRequest(), customMatchers);
   }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2017-2022 Thomas Akehurst
+ * Copyright (C) 2017-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,44 +22,49 @@ import java.util.Arrays;
 public class BodyChunker {
 
   public static byte[][] chunkBody(byte[] body, int numberOfChunks) {
+    int[] chunkLengths = chunkLengths(body.length, numberOfChunks);
+
+    byte[][] chunkedBody = new byte[chunkLengths.length][];
+
+    int chunkStart = 0;
+    for (int chunkIndex = 0; chunkIndex < chunkLengths.length; chunkIndex++) {
+      int chunkEnd = chunkStart + chunkLengths[chunkIndex];
+      chunkedBody[chunkIndex] = Arrays.copyOfRange(body, chunkStart, chunkEnd);
+      chunkStart = chunkEnd;
+    }
+
+    return chunkedBody;
+  }
+
+  /**
+   * The lengths of the chunks a body of the given length is split into, so a body can be chunked as
+   * it's read. Any excess bytes go into the last chunk.
+   */
+  public static int[] chunkLengths(int bodyLength, int numberOfChunks) {
 
     if (numberOfChunks < 1) {
       notifier().error("Number of chunks set to value less than 1: " + numberOfChunks);
       numberOfChunks = 1;
     }
 
-    if (body.length < numberOfChunks) {
+    if (bodyLength < numberOfChunks) {
       notifier()
           .error(
               "Number of chunks set to value greater then body length. Number of chunks: "
                   + numberOfChunks
                   + ". Body length: "
-                  + body.length
+                  + bodyLength
                   + ". Overriding number of chunks to body length.");
-      numberOfChunks = body.length;
+      numberOfChunks = bodyLength;
     }
 
-    int chunkSize = body.length / numberOfChunks;
-    int excessSize = body.length % numberOfChunks;
-
-    byte[][] chunkedBody = new byte[numberOfChunks][];
+    int chunkSize = bodyLength / numberOfChunks;
+    int excessSize = bodyLength % numberOfChunks;
 
-    for (int chunkIndex = 0; chunkIndex < numberOfChunks; chunkIndex++) {
-      int chunkStart = chunkIndex * chunkSize;
-      int chunkEnd = chunkStart + chunkSize;
+    int[] chunkLengths = new int[numberOfChunks];
+    Arrays.fill(chunkLengths, chunkSize);
+    chunkLengths[numberOfChunks - 1] += excessSize;
 
-      chunkedBody[chunkIndex] = Arrays.copyOfRange(body, chunkStart, chunkEnd);
-    }
-
-    if (excessSize > 0) {
-      int lastChunkIndex = numberOfChunks - 1;
-
-      int chunkStart = lastChunkIndex * chunkSize;
-      int newChunkEnd = chunkStart + chunkSize + excessSize;
-
-      chunkedBody[lastChunkIndex] = Arrays.copyOfRange(body, chunkStart, newChunkEnd);
-    }
-
-    return chunkedBody;
+    return chunkLengths;
   }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.servlet;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/** Writes a body one chunk at a time, reading each chunk from the body stream only when needed. */
+class ChunkedDribbleWriter {
+
+  private final InputStream body;
+  private final OutputStream out;
+  private final int[] chunkLengths;
+  private int nextChunk = 0;
+
+  ChunkedDribbleWriter(InputStream body, OutputStream out, int[] chunkLengths) {
+    this.body = body;
+    this.out = out;
+    this.chunkLengths = chunkLengths;
+  }
+
+  boolean hasMoreChunks() {
+    return nextChunk < chunkLengths.length;
+  }
+
+  void writeNextChunk() throws IOException {
+    writeChunk(readNextChunk());
+  }
+
+  byte[] readNextChunk() throws IOException {
+    return body.readNBytes(chunkLengths[nextChunk++]);
+  }
+
+  void writeChunk(byte[] chunk) throws IOException {
+    out.write(chunk);
+    out.flush();
+  }
+
+  void close() {
+    try (body;
+        out) {
+      // Closes both, even if one fails
+    } catch (IOException e) {
+      // well, we tried
+    }
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2024 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -98,7 +98,7 @@ public class WarConfiguration implements Options {
 
   @Override
   public Stores getStores() {
-    return new DefaultStores(filesRoot());
+    return new DefaultStores(filesRoot(), maxRequestJournalEntries().orElse(null));
   }
 
   @Override
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2011-2024 Thomas Akehurst
+ * Copyright (C) 2011-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,7 @@
  */
 package com.github.tomakehurst.wiremock.servlet;
 
+import static com.github.tomakehurst.wiremock.common.ContentTypes.CONTENT_ENCODING;
 import static com.github.tomakehurst.wiremock.common.ContentTypes.CONTENT_LENGTH;
 import static com.github.tomakehurst.wiremock.common.Exceptions.throwUnchecked;
 import static com.github.tomakehurst.wiremock.common.ParameterUtils.getFirstNonNull;
@@ -34,6 +35,7 @@ import com.github.tomakehurst.wiremock.core.FaultInjector;
 import com.github.tomakehurst.wiremock.core.Options;
 import com.github.tomakehurst.wiremock.core.WireMockApp;
 import com.github.tomakehurst.wiremock.http.*;
+import com.github.tomakehurst.wiremock.jetty.GzipPolicy;
 import com.github.tomakehurst.wiremock.jetty.JettyHttpUtils;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import com.github.tomakehurst.wiremock.verification.LoggedRequest;
@@ -41,10 +43,14 @@ import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.ScheduledExecutorService;
 
 public class WireMockHandlerDispatchingServlet extends HttpServlet {
@@ -68,6 +74,7 @@ public class WireMockHandlerDispatchingServlet extends HttpServlet {
   private Options.ChunkedEncodingPolicy chunkedEncodingPolicy;
   private boolean browserProxyingEnabled;
   private JettyHttpUtils utils;
+  private GzipPolicy gzipPolicy;
 
   @Override
   public void init(ServletConfig config) {
@@ -116,6 +123,7 @@ public class WireMockHandlerDispatchingServlet extends HttpServlet {
             getFirstNonNull(context.getAttribute("browserProxyingEnabled"), "false").toString());
 
     utils = (JettyHttpUtils) context.getAttribute(JettyHttpUtils.class.getName());
+    gzipPolicy = (GzipPolicy) context.getAttribute(GzipPolicy.KEY);
   }
 
   private String getNormalizedMappedUnder(ServletConfig config) {
@@ -216,20 +224,27 @@ public class WireMockHandlerDispatchingServlet extends HttpServlet {
       final AsyncContext asyncContext = httpServletRequest.startAsync();
       scheduledExecutorService.schedule(
           () -> {
+            boolean completesLater = false;
             try {
-              respondTo(request, response);
+              completesLater = respondTo(request, response);
             } finally {
-              asyncContext.complete();
+              if (!completesLater) {
+                asyncContext.complete();
+              }
             }
           },
           response.getInitialDelay(),
           MILLISECONDS);
     }
 
-    private void respondTo(Request request, Response response) {
+    /**
+     * Returns true if the response is still being written asynchronously and will complete the
+     * request itself.
+     */
+    private boolean respondTo(Request request, Response response) {
       try {
         if (response.wasConfigured()) {
-          applyResponse(response, httpServletRequest, httpServletResponse);
+          return writeResponse(response, httpServletRequest, httpServletResponse);
         } else if (request.getMethod().equals(GET) && shouldForwardToFilesContext) {
           forwardToFilesContext(httpServletRequest, httpServletResponse, request);
         } else {
@@ -238,6 +253,8 @@ public class WireMockHandlerDispatchingServlet extends HttpServlet {
       } catch (Exception e) {
         throwUnchecked(e);
       }
+
+      return false;
     }
   }
 
@@ -245,12 +262,19 @@ public class WireMockHandlerDispatchingServlet extends HttpServlet {
       Response response,
       HttpServletRequest httpServletRequest,
       HttpServletResponse httpServletResponse) {
+    writeResponse(response, httpServletRequest, httpServletResponse);
+  }
+
+  private boolean writeResponse(
+      Response response,
+      HttpServletRequest httpServletRequest,
+      HttpServletResponse httpServletResponse) {
     Fault fault = response.getFault();
     if (fault != null) {
       FaultInjector faultInjector = buildFaultInjector(httpServletRequest, httpServletResponse);
       fault.apply(faultInjector);
       httpServletResponse.addHeader(Fault.class.getName(), fault.name());
-      return;
+      return false;
     }
 
     if (response.getStatusMessage() == null) {
@@ -266,18 +290,63 @@ public class WireMockHandlerDispatchingServlet extends HttpServlet {
       }
     }
 
+    final byte[] gzippedBody =
+        response.shouldAddChunkedDribbleDelay()
+            ? null
+            : gzippedBodyFor(httpServletRequest, response).orElse(null);
+    if (gzippedBody != null) {
+      httpServletResponse.setHeader(CONTENT_ENCODING, "gzip");
+    }
+
     if ((chunkedEncodingPolicy == NEVER
             || (chunkedEncodingPolicy == BODY_FILE && response.hasInlineBody()))
         && httpServletResponse.getHeader(CONTENT_LENGTH) == null) {
-      httpServletResponse.setContentLength(response.getBody().length);
+      httpServletResponse.setContentLengthLong(
+          gzippedBody != null ? gzippedBody.length : bodyLengthOf(response));
     }
 
     if (response.shouldAddChunkedDribbleDelay()) {
-      writeAndTranslateExceptionsWithChunkedDribbleDelay(
-          httpServletResponse, response.getBodyStream(), response.getChunkedDribbleDelay());
-    } else {
+      return writeAndTranslateExceptionsWithChunkedDribbleDelay(
+          httpServletRequest, httpServletResponse, response);
+    }
+
+    if (gzippedBody != null) {
+      writeAndTranslateExceptions(httpServletResponse, new ByteArrayInputStream(gzippedBody));
+      return false;
+    }
+
+    if (!writeMappedBodyAndTranslateExceptions(httpServletResponse, response)) {
       writeAndTranslateExceptions(httpServletResponse, response.getBodyStream());
     }
+    return false;
+  }
+
+  /**
+   * The body already gzipped, if the gzip handler would have compressed this response. The gzip
+   * handler leaves responses that have a content encoding alone, so sending the copy kept with the
+   * body saves it compressing the same body on every request. Anything the handler might treat
+   * differently, e.g. a response with an ETag, is left for it to compress as before.
+   */
+  private Optional<byte[]> gzippedBodyFor(
+      HttpServletRequest httpServletRequest, Response response) {
+    if (gzipPolicy == null
+        || !gzipPolicy.isMethodCompressible(httpServletRequest.getMethod())
+        || !GzipPolicy.acceptsGzip(httpServletRequest.getHeader("Accept-Encoding"))
+        || !GzipPolicy.isStatusCompressible(response.getStatus())) {
+      return Optional.empty();
+    }
+
+    HttpHeaders headers = response.getHeaders();
+    ContentTypeHeader contentTypeHeader = headers.getContentTypeHeader();
+    if (headers.getHeader(CONTENT_ENCODING).isPresent()
+        || headers.getHeader(CONTENT_LENGTH).isPresent()
+        || headers.getHeader("ETag").isPresent()
+        || !contentTypeHeader.isPresent()
+        || !gzipPolicy.isMimeTypeCompressible(contentTypeHeader.mimeTypePart())) {
+      return Optional.empty();
+    }
+
+    return response.getGzippedBody(gzipPolicy.getMinSize());
   }
 
   private FaultInjector buildFaultInjector(
@@ -301,35 +370,141 @@ public class WireMockHandlerDispatchingServlet extends HttpServlet {
     }
   }
 
-  private void writeAndTranslateExceptionsWithChunkedDribbleDelay(
-      HttpServletResponse httpServletResponse,
-      InputStream bodyStream,
-      ChunkedDribbleDelay chunkedDribbleDelay) {
-    try (ServletOutputStream out = httpServletResponse.getOutputStream()) {
-      byte[] body = bodyStream.readAllBytes();
+  private static long bodyLengthOf(Response response) {
+    return response.getKnownBodyLength().orElseGet(() -> (long) response.getBody().length);
+  }
 
-      if (body.length < 1) {
-        notifier.error("Cannot chunk dribble delay when no body set");
-        out.flush();
-        return;
-      }
+  /**
+   * Hands the body file's memory mapping to Jetty, so the body goes from the page cache to the
+   * network without being copied through the heap. Returns false, having written nothing, if that
+   * isn't possible here.
+   */
+  private boolean writeMappedBodyAndTranslateExceptions(
+      HttpServletResponse httpServletResponse, Response response) {
+    if (utils == null) {
+      return false;
+    }
 
-      byte[][] chunkedBody = BodyChunker.chunkBody(body, chunkedDribbleDelay.getNumberOfChunks());
+    final Optional<ByteBuffer> content = response.getMappedBody();
+    if (content.isEmpty()) {
+      return false;
+    }
 
-      int chunkInterval = chunkedDribbleDelay.getTotalDuration() / chunkedBody.length;
+    try {
+      ServletOutputStream out = httpServletResponse.getOutputStream();
+      if (!utils.writeDirectly(out, content.get())) {
+        return false;
+      }
+      out.close();
+      return true;
+    } catch (IOException e) {
+      return throwUnchecked(e, Boolean.class);
+    } catch (InternalError e) {
+      // Reading a mapping past the end of a file truncated while it was being sent
+      return throwUnchecked(
+          new IOException("Body file changed while it was being sent", e), Boolean.class);
+    }
+  }
+
+  /**
+   * Writes the body in chunks spread over the dribble delay, reading each chunk from the body
+   * stream as it's needed. When there's an asynchronous response executor each chunk is written by
+   * a scheduled task, so no thread is held between chunks, and true is returned to say the request
+   * will be completed once the last chunk has been written.
+   */
+  private boolean writeAndTranslateExceptionsWithChunkedDribbleDelay(
+      HttpServletRequest httpServletRequest,
+      HttpServletResponse httpServletResponse,
+      Response response) {
+    ChunkedDribbleDelay chunkedDribbleDelay = response.getChunkedDribbleDelay();
+    try {
+      Optional<Long> knownBodyLength = response.getKnownBodyLength();
+      int bodyLength =
+          knownBodyLength.isPresent()
+              ? Math.toIntExact(knownBodyLength.get())
+              : lengthOf(response.getBodyStream());
+      if (bodyLength < 1) {
+        notifier.error("Cannot chunk dribble delay when no body set");
+        httpServletResponse.getOutputStream().close();
+        return false;
+      }
 
-      for (byte[] bodyChunk : chunkedBody) {
-        Thread.sleep(chunkInterval);
-        out.write(bodyChunk);
-        out.flush();
+      int[] chunkLengths =
+          BodyChunker.chunkLengths(bodyLength, chunkedDribbleDelay.getNumberOfChunks());
+      long chunkInterval = chunkedDribbleDelay.getTotalDuration() / chunkLengths.length;
+      ChunkedDribbleWriter writer =
+          new ChunkedDribbleWriter(
+              response.getBodyStream(), httpServletResponse.getOutputStream(), chunkLengths);
+
+      if (scheduledExecutorService != null && httpServletRequest.isAsyncSupported()) {
+        AsyncContext asyncContext =
+            httpServletRequest.isAsyncStarted()
+                ? httpServletRequest.getAsyncContext()
+                : httpServletRequest.startAsync();
+        scheduleNextChunk(writer, asyncContext, chunkInterval);
+        return true;
       }
 
+      try {
+        while (writer.hasMoreChunks()) {
+          Thread.sleep(chunkInterval);
+          writer.writeNextChunk();
+        }
+      } finally {
+        writer.close();
+      }
     } catch (IOException e) {
       throwUnchecked(e);
     } catch (InterruptedException ignored) {
       // Ignore the interrupt quietly since it's probably the client timing out, which is a
       // completely valid outcome
     }
+
+    return false;
+  }
+
+  private void scheduleNextChunk(
+      ChunkedDribbleWriter writer, AsyncContext asyncContext, long chunkInterval) {
+    scheduledExecutorService.schedule(
+        () -> {
+          boolean nextChunkScheduled = false;
+          try {
+            final byte[] chunk;
+            try {
+              chunk = writer.readNextChunk();
+            } catch (IOException e) {
+              notifier.error("Failed to read the body of a dribbled response", e);
+              return;
+            }
+
+            writer.writeChunk(chunk);
+            if (writer.hasMoreChunks()) {
+              scheduleNextChunk(writer, asyncContext, chunkInterval);
+              nextChunkScheduled = true;
+            }
+          } catch (IOException ignored) {
+            // Writing to the client failed, probably because it timed out, which is a completely
+            // valid outcome
+          } finally {
+            if (!nextChunkScheduled) {
+              writer.close();
+              asyncContext.complete();
+            }
+          }
+        },
+        chunkInterval,
+        MILLISECONDS);
+  }
+
+  // Only for bodies whose length isn't known up front, e.g. from a custom stream source
+  private static int lengthOf(InputStream bodyStream) throws IOException {
+    if (bodyStream == null) {
+      return 0;
+    }
+
+    try (bodyStream) {
+      return Math.toIntExact(bodyStream.transferTo(OutputStream.nullOutputStream()));
+    }
   }
 
   private void forwardToFilesContext(
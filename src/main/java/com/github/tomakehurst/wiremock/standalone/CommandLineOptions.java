@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2011-2024 Thomas Akehurst
+ * Copyright (C) 2011-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -42,6 +42,7 @@ import com.github.tomakehurst.wiremock.http.trafficlistener.ConsoleNotifyingWire
 import com.github.tomakehurst.wiremock.http.trafficlistener.DoNothingWiremockNetworkTrafficListener;
 import com.github.tomakehurst.wiremock.http.trafficlistener.WiremockNetworkTrafficListener;
 import com.github.tomakehurst.wiremock.jetty.QueuedThreadPoolFactory;
+import com.github.tomakehurst.wiremock.jetty.VirtualThreadPoolFactory;
 import com.github.tomakehurst.wiremock.security.Authenticator;
 import com.github.tomakehurst.wiremock.security.BasicAuthenticator;
 import com.github.tomakehurst.wiremock.security.NoAuthenticator;
@@ -99,6 +100,7 @@ public class CommandLineOptions implements Options {
   private static final String JETTY_IDLE_TIMEOUT = "jetty-idle-timeout";
   private static final String ROOT_DIR = "root-dir";
   private static final String CONTAINER_THREADS = "container-threads";
+  private static final String VIRTUAL_THREADS = "virtual-threads";
   private static final String GLOBAL_RESPONSE_TEMPLATING = "global-response-templating";
   private static final String LOCAL_RESPONSE_TEMPLATING = "local-response-templating";
   private static final String DISABLE_RESPONSE_TEMPLATING = "disable-response-templating";
@@ -161,6 +163,8 @@ public class CommandLineOptions implements Options {
         .withRequiredArg();
     optionParser.accepts(BIND_ADDRESS, "The IP to listen connections").withRequiredArg();
     optionParser.accepts(CONTAINER_THREADS, "The number of container threads").withRequiredArg();
+    optionParser.accepts(
+        VIRTUAL_THREADS, "Serve requests on virtual threads, where the JVM supports them");
     optionParser.accepts(TIMEOUT, "The default global timeout.");
     optionParser.accepts(
         DISABLE_OPTIMIZE_XML_FACTORIES_LOADING,
@@ -415,7 +419,7 @@ public class CommandLineOptions implements Options {
       fileSource = new SingleRootFileSource((String) optionSet.valueOf(ROOT_DIR));
     }
 
-    stores = new DefaultStores(fileSource);
+    stores = new DefaultStores(fileSource, maxRequestJournalEntries().orElse(null));
 
     if (optionSet.has(PROXY_PASS_THROUGH)) {
       GlobalSettings newSettings =
@@ -537,7 +541,9 @@ public class CommandLineOptions implements Options {
 
   @Override
   public ThreadPoolFactory threadPoolFactory() {
-    return new QueuedThreadPoolFactory();
+    return optionSet.has(VIRTUAL_THREADS)
+        ? new VirtualThreadPoolFactory()
+        : new QueuedThreadPoolFactory();
   }
 
   private boolean specifiesPortNumber() {
@@ -860,6 +866,10 @@ public class CommandLineOptions implements Options {
     map.put(DISABLE_REQUEST_JOURNAL, requestJournalDisabled());
     map.put(VERBOSE, verboseLoggingEnabled());
 
+    if (optionSet.has(VIRTUAL_THREADS)) {
+      map.put(VIRTUAL_THREADS, "true");
+    }
+
     if (jettySettings().getAcceptQueueSize().isPresent()) {
       map.put(JETTY_ACCEPT_QUEUE_SIZE, jettySettings().getAcceptQueueSize().get());
     }
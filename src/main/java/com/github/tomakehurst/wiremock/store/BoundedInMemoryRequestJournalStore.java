@@ -0,0 +1,276 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.store;
+
+import com.github.tomakehurst.wiremock.matching.RequestPattern;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.wiremock.annotations.Beta;
+
+/**
+ * A request journal store with a fixed capacity. Adding an event when the store is full evicts the
+ * oldest one, so the journal never needs to be trimmed after each request.
+ *
+ * <p>Events are stored by sequence number in small chunks of slots, allocated as events arrive, so
+ * a large capacity costs nothing until it's used. Adding, evicting and removing an event don't take
+ * any locks. A removed event leaves an empty slot that reads skip, and a chunk is dropped as a
+ * whole once none of its events remain.
+ */
+@Beta(justification = "Externalized State API: https://github.com/wiremock/wiremock/issues/2144")
+public class BoundedInMemoryRequestJournalStore implements RequestJournalStore {
+
+  private static final int CHUNK_SHIFT = 7;
+  private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+
+  private final int capacity;
+  private final ConcurrentSkipListMap<Long, Chunk> chunks = new ConcurrentSkipListMap<>();
+  private final AtomicLong nextSequence = new AtomicLong();
+  private final AtomicInteger size = new AtomicInteger();
+  private final Map<UUID, Entry> entriesById = new ConcurrentHashMap<>();
+  private final ServeEventIndex index = new ServeEventIndex();
+
+  public BoundedInMemoryRequestJournalStore(int capacity) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("Capacity of the journal must not be negative");
+    }
+    this.capacity = capacity;
+  }
+
+  @Override
+  public void add(ServeEvent event) {
+    if (capacity == 0) {
+      return;
+    }
+
+    final long sequence = nextSequence.getAndIncrement();
+    final Entry entry = new Entry(sequence, retainChunkFor(sequence), event);
+    entriesById.put(entry.id, entry);
+    index.add(sequence, event);
+    entry.chunk.slots.set(slotOf(sequence), entry);
+    size.incrementAndGet();
+
+    while (reserveEviction()) {
+      if (!removeOldest()) {
+        // Concurrent removals got there first
+        size.incrementAndGet();
+        return;
+      }
+    }
+  }
+
+  @Override
+  public Stream<ServeEvent> getAll() {
+    return chunks.descendingMap().values().stream()
+        .flatMap(
+            chunk ->
+                IntStream.range(0, CHUNK_SIZE)
+                    .mapToObj(i -> chunk.slots.get(CHUNK_SIZE - 1 - i))
+                    .filter(Objects::nonNull))
+        .map(entry -> entry.event);
+  }
+
+  @Override
+  public Stream<ServeEvent> findCandidates(RequestPattern requestPattern) {
+    final Stream<Long> candidates = index.findCandidates(requestPattern);
+    return candidates != null ? eventsFor(candidates) : getAll();
+  }
+
+  @Override
+  public Stream<ServeEvent> getAllForStubMapping(UUID stubMappingId) {
+    return eventsFor(index.findByStubMappingId(stubMappingId));
+  }
+
+  @Override
+  public void removeLast() {
+    if (removeOldest()) {
+      size.decrementAndGet();
+    }
+  }
+
+  @Override
+  public int size() {
+    return size.get();
+  }
+
+  @Override
+  public Stream<UUID> getAllKeys() {
+    return getAll().map(ServeEvent::getId);
+  }
+
+  @Override
+  public Optional<ServeEvent> get(UUID id) {
+    final Entry entry = entriesById.get(id);
+    return entry != null ? Optional.of(entry.event) : Optional.empty();
+  }
+
+  @Override
+  public void put(UUID id, ServeEvent event) {
+    final Entry entry = entriesById.get(id);
+    if (entry != null) {
+      final ServeEvent previous = entry.event;
+      entry.event = event;
+      index.remove(entry.sequence, previous);
+      index.add(entry.sequence, event);
+
+      // An eviction racing with this may only have unindexed the previous event
+      if (entryAt(entry.sequence) != entry) {
+        index.remove(entry.sequence, event);
+      }
+    }
+  }
+
+  @Override
+  public void remove(UUID id) {
+    final Entry entry = entriesById.get(id);
+    if (entry != null && unlink(entry)) {
+      size.decrementAndGet();
+    }
+  }
+
+  @Override
+  public void clear() {
+    for (Chunk chunk : chunks.values()) {
+      for (int i = 0; i < CHUNK_SIZE; i++) {
+        final Entry entry = chunk.slots.get(i);
+        if (entry != null && unlink(entry)) {
+          size.decrementAndGet();
+        }
+      }
+    }
+  }
+
+  private Stream<ServeEvent> eventsFor(Stream<Long> sequences) {
+    return sequences.map(this::entryAt).filter(Objects::nonNull).map(entry -> entry.event);
+  }
+
+  private Entry entryAt(long sequence) {
+    final Chunk chunk = chunks.get(sequence >> CHUNK_SHIFT);
+    return chunk != null ? chunk.slots.get(slotOf(sequence)) : null;
+  }
+
+  private Chunk retainChunkFor(long sequence) {
+    final long key = sequence >> CHUNK_SHIFT;
+    while (true) {
+      final Chunk chunk = chunks.computeIfAbsent(key, Chunk::new);
+      if (chunk.retain()) {
+        return chunk;
+      }
+
+      // Emptied and closed since it was looked up, so make way for a fresh one
+      chunks.remove(key, chunk);
+    }
+  }
+
+  // Claims one eviction by taking it off the size, so concurrent adds never evict too many
+  private boolean reserveEviction() {
+    while (true) {
+      final int current = size.get();
+      if (current <= capacity) {
+        return false;
+      }
+      if (size.compareAndSet(current, current - 1)) {
+        return true;
+      }
+    }
+  }
+
+  // Leaves the size to the caller
+  private boolean removeOldest() {
+    for (Chunk chunk : chunks.values()) {
+      for (int i = 0; i < CHUNK_SIZE; i++) {
+        final Entry entry = chunk.slots.get(i);
+        if (entry != null && unlink(entry)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  // Leaves the size to the caller. Sequences are never reused, so only one caller can succeed
+  private boolean unlink(Entry entry) {
+    if (!entry.chunk.slots.compareAndSet(slotOf(entry.sequence), entry, null)) {
+      return false;
+    }
+
+    entriesById.remove(entry.id, entry);
+    index.remove(entry.sequence, entry.event);
+    release(entry.chunk);
+    return true;
+  }
+
+  private void release(Chunk chunk) {
+    // A chunk can only be dropped once every sequence in it has been handed out
+    if (chunk.retained.decrementAndGet() == 0
+        && nextSequence.get() > chunk.lastSequence
+        && chunk.retained.compareAndSet(0, -1)) {
+      chunks.remove(chunk.key, chunk);
+    }
+  }
+
+  private static int slotOf(long sequence) {
+    return (int) (sequence & (CHUNK_SIZE - 1));
+  }
+
+  private static class Chunk {
+    final long key;
+    final long lastSequence;
+    final AtomicReferenceArray<Entry> slots = new AtomicReferenceArray<>(CHUNK_SIZE);
+    // The number of events added to the chunk and not yet removed, or -1 once it's closed
+    final AtomicInteger retained = new AtomicInteger();
+
+    Chunk(long key) {
+      this.key = key;
+      this.lastSequence = (key << CHUNK_SHIFT) + CHUNK_SIZE - 1;
+    }
+
+    boolean retain() {
+      while (true) {
+        final int current = retained.get();
+        if (current < 0) {
+          return false;
+        }
+        if (retained.compareAndSet(current, current + 1)) {
+          return true;
+        }
+      }
+    }
+  }
+
+  private static class Entry {
+    final long sequence;
+    final Chunk chunk;
+    final UUID id;
+    volatile ServeEvent event;
+
+    Entry(long sequence, Chunk chunk, ServeEvent event) {
+      this.sequence = sequence;
+      this.chunk = chunk;
+      this.id = event.getId();
+      this.event = event;
+    }
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2022-2024 Thomas Akehurst
+ * Copyright (C) 2022-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -36,16 +36,25 @@ public class DefaultStores implements Stores {
   private final ScenariosStore scenariosStore;
 
   private final Map<String, ObjectStore> objectStores;
+  private final Map<String, BlobStore> blobStores;
 
   public DefaultStores(FileSource fileRoot) {
+    this(fileRoot, null);
+  }
+
+  public DefaultStores(FileSource fileRoot, Integer maxRequestJournalEntries) {
     this.fileRoot = fileRoot;
 
     this.stubMappingStore = new InMemoryStubMappingStore();
-    this.requestJournalStore = new InMemoryRequestJournalStore();
+    this.requestJournalStore =
+        maxRequestJournalEntries != null && maxRequestJournalEntries >= 0
+            ? new BoundedInMemoryRequestJournalStore(maxRequestJournalEntries)
+            : new InMemoryRequestJournalStore();
     this.settingsStore = new InMemorySettingsStore();
     this.scenariosStore = new InMemoryScenariosStore();
 
     objectStores = new ConcurrentHashMap<>();
+    blobStores = new ConcurrentHashMap<>();
   }
 
   @Override
@@ -75,8 +84,8 @@ public class DefaultStores implements Stores {
 
   @Override
   public BlobStore getBlobStore(String name) {
-    final FileSource child = fileRoot.child(name);
-    return new FileSourceBlobStore(child);
+    // Shared, so that files written through one caller's store aren't served stale from another's
+    return blobStores.computeIfAbsent(name, n -> new FileSourceBlobStore(fileRoot.child(n)));
   }
 
   @Override
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2024 Thomas Akehurst
+ * Copyright (C) 2024-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,21 +23,44 @@ import java.util.Optional;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
+/**
+ * An object store that evicts the least recently used entries once it holds more than its maximum
+ * number of items.
+ *
+ * <p>Recency is tracked with a doubly linked list, so every reordering and eviction is constant
+ * time. Reads don't contend on the list: they record the access in a buffer that is replayed the
+ * next time the list is locked, either by a write or once enough reads have accumulated. A read
+ * that finds the buffer full waits for the lock and replays the buffer itself rather than being
+ * dropped, so no access is ever lost and eviction order is exact.
+ */
 public class InMemoryObjectStore implements ObjectStore, StoreEventEmitter<String, Object> {
 
-  private final ConcurrentHashMap<String, Object> cache;
-  private final Queue<String> keyUseOrder = new ConcurrentLinkedQueue<>();
+  private static final int READ_BUFFER_DRAIN_THRESHOLD = 32;
+  private static final int READ_BUFFER_MAX_SIZE = 1024;
+
+  private final ConcurrentHashMap<String, Node> cache;
   private final int maxItems;
   private final List<Consumer<? super StoreEvent<String, Object>>> listeners = new ArrayList<>();
 
+  private final ReentrantLock evictionLock = new ReentrantLock();
+  private final Node head = new Node(null, null);
+  private int linkedCount = 0;
+
+  private final Queue<Node> readBuffer = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger readBufferSize = new AtomicInteger();
+
   public InMemoryObjectStore(int maxItems) {
     this.cache = new ConcurrentHashMap<>();
     this.maxItems = maxItems;
+    head.prev = head;
+    head.next = head;
   }
 
   @Override
@@ -47,11 +70,13 @@ public class InMemoryObjectStore implements ObjectStore, StoreEventEmitter<Strin
 
   @Override
   public Optional<Object> get(String key) {
-    Optional<Object> value = Optional.ofNullable(cache.get(key));
-    if (value.isPresent()) {
-      touch(key);
+    final Node node = cache.get(key);
+    if (node == null) {
+      return Optional.empty();
     }
-    return value;
+
+    recordRead(node);
+    return Optional.ofNullable(node.value);
   }
 
   @Override
@@ -61,45 +86,67 @@ public class InMemoryObjectStore implements ObjectStore, StoreEventEmitter<Strin
 
   @Override
   public void put(String key, Object content) {
-    Object previousValue = cache.put(key, content);
-    touchAndResize(key);
-    handleEvent(StoreEvent.set(key, previousValue, content));
+    final Node node = new Node(key, content);
+    final Node previous = cache.put(key, node);
+    final List<Node> evicted = linkAndEvict(node, previous);
+    emitRemovals(evicted);
+    handleEvent(StoreEvent.set(key, previous != null ? previous.value : null, content));
   }
 
   @Override
   @SuppressWarnings("unchecked")
   public <T> T compute(String key, Function<T, T> valueFunction) {
     final AtomicReference<T> previousValue = new AtomicReference<>();
-    final T result =
-        (T)
-            cache.compute(
-                key,
-                (k, currentValue) -> {
-                  previousValue.set((T) currentValue);
-                  return valueFunction.apply((T) currentValue);
-                });
-    if (result != null) {
-      touchAndResize(key);
+    final AtomicReference<Node> previousNode = new AtomicReference<>();
+    final Node resultNode =
+        cache.compute(
+            key,
+            (k, currentNode) -> {
+              final T currentValue = currentNode != null ? (T) currentNode.value : null;
+              previousValue.set(currentValue);
+              previousNode.set(currentNode);
+              final T newValue = valueFunction.apply(currentValue);
+              return newValue != null ? new Node(k, newValue) : null;
+            });
+
+    final T result = resultNode != null ? (T) resultNode.value : null;
+    final List<Node> evicted;
+    if (resultNode != null) {
+      evicted = linkAndEvict(resultNode, previousNode.get());
     } else {
-      keyUseOrder.remove(key);
+      evicted = List.of();
+      unlink(previousNode.get());
     }
+    emitRemovals(evicted);
     handleEvent(StoreEvent.set(key, previousValue.get(), result));
     return result;
   }
 
   @Override
   public void remove(String key) {
-    Object previousValue = cache.remove(key);
-    keyUseOrder.remove(key);
-    if (previousValue != null) {
-      handleEvent(StoreEvent.remove(key, previousValue));
+    final Node previous = cache.remove(key);
+    if (previous != null) {
+      unlink(previous);
+      handleEvent(StoreEvent.remove(key, previous.value));
     }
   }
 
   @Override
   public void clear() {
-    cache.clear();
-    keyUseOrder.clear();
+    evictionLock.lock();
+    try {
+      cache.clear();
+      readBuffer.clear();
+      readBufferSize.set(0);
+      for (Node node = head.next; node != head; node = node.next) {
+        node.linked = false;
+      }
+      head.prev = head;
+      head.next = head;
+      linkedCount = 0;
+    } finally {
+      evictionLock.unlock();
+    }
   }
 
   @Override
@@ -117,20 +164,126 @@ public class InMemoryObjectStore implements ObjectStore, StoreEventEmitter<Strin
     }
   }
 
-  private void touchAndResize(String key) {
-    touch(key);
-    resize();
+  private void emitRemovals(List<Node> evicted) {
+    for (Node node : evicted) {
+      handleEvent(StoreEvent.remove(node.key, node.value));
+    }
+  }
+
+  private void recordRead(Node node) {
+    if (readBufferSize.get() >= READ_BUFFER_MAX_SIZE) {
+      evictionLock.lock();
+      try {
+        drainReadBuffer();
+        moveToEnd(node);
+      } finally {
+        evictionLock.unlock();
+      }
+      return;
+    }
+
+    readBuffer.offer(node);
+    readBufferSize.incrementAndGet();
+
+    if (readBufferSize.get() >= READ_BUFFER_DRAIN_THRESHOLD && evictionLock.tryLock()) {
+      try {
+        drainReadBuffer();
+      } finally {
+        evictionLock.unlock();
+      }
+    }
+  }
+
+  private List<Node> linkAndEvict(Node node, Node replaced) {
+    evictionLock.lock();
+    try {
+      drainReadBuffer();
+      if (replaced != null) {
+        unlinkLocked(replaced);
+      }
+
+      // A concurrent write may already have replaced or removed the node
+      if (cache.get(node.key) == node) {
+        linkLast(node);
+      }
+
+      List<Node> evicted = List.of();
+      while (linkedCount > maxItems) {
+        final Node eldest = head.next;
+        unlinkLocked(eldest);
+        if (cache.remove(eldest.key, eldest)) {
+          if (evicted.isEmpty()) {
+            evicted = new ArrayList<>();
+          }
+          evicted.add(eldest);
+        }
+      }
+      return evicted;
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  private void unlink(Node node) {
+    if (node == null) {
+      return;
+    }
+
+    evictionLock.lock();
+    try {
+      unlinkLocked(node);
+    } finally {
+      evictionLock.unlock();
+    }
   }
 
-  private void touch(String key) {
-    keyUseOrder.remove(key);
-    keyUseOrder.offer(key);
+  private void drainReadBuffer() {
+    Node node;
+    while ((node = readBuffer.poll()) != null) {
+      readBufferSize.decrementAndGet();
+      moveToEnd(node);
+    }
+  }
+
+  private void moveToEnd(Node node) {
+    if (node.linked) {
+      unlinkLocked(node);
+      linkLast(node);
+    }
+  }
+
+  private void linkLast(Node node) {
+    node.prev = head.prev;
+    node.next = head;
+    head.prev.next = node;
+    head.prev = node;
+    node.linked = true;
+    linkedCount++;
   }
 
-  private void resize() {
-    while (keyUseOrder.size() > maxItems) {
-      final String keyToRemove = keyUseOrder.poll();
-      remove(keyToRemove);
+  private void unlinkLocked(Node node) {
+    if (!node.linked) {
+      return;
+    }
+
+    node.prev.next = node.next;
+    node.next.prev = node.prev;
+    node.prev = null;
+    node.next = null;
+    node.linked = false;
+    linkedCount--;
+  }
+
+  private static class Node {
+    final String key;
+    final Object value;
+    Node prev;
+    Node next;
+    boolean linked;
+
+    Node(String key, Object value) {
+      this.key = key;
+      this.value = value;
     }
   }
 }
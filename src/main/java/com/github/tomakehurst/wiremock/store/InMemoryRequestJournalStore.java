@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2022-2023 Thomas Akehurst
+ * Copyright (C) 2022-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,35 +15,59 @@
  */
 package com.github.tomakehurst.wiremock.store;
 
+import com.github.tomakehurst.wiremock.matching.RequestPattern;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 import org.wiremock.annotations.Beta;
 
 @Beta(justification = "Externalized State API: https://github.com/wiremock/wiremock/issues/2144")
 public class InMemoryRequestJournalStore implements RequestJournalStore {
 
-  private final Deque<UUID> deque = new ConcurrentLinkedDeque<>();
-  private final Map<UUID, ServeEvent> serveEvents = new ConcurrentHashMap<>();
+  private final AtomicLong nextSequence = new AtomicLong();
+  private final ConcurrentSkipListMap<Long, ServeEvent> serveEvents = new ConcurrentSkipListMap<>();
+  private final Map<UUID, NavigableSet<Long>> sequencesById = new ConcurrentHashMap<>();
+  private final ServeEventIndex index = new ServeEventIndex();
 
   @Override
   public void add(ServeEvent event) {
-    serveEvents.put(event.getId(), event);
-    deque.addFirst(event.getId());
+    final long sequence = nextSequence.getAndIncrement();
+    serveEvents.put(sequence, event);
+    sequencesById.computeIfAbsent(event.getId(), id -> new ConcurrentSkipListSet<>()).add(sequence);
+    index.add(sequence, event);
   }
 
   @Override
   public Stream<ServeEvent> getAll() {
-    return deque.stream().map(serveEvents::get).filter(Objects::nonNull);
+    return serveEvents.descendingMap().values().stream();
+  }
+
+  @Override
+  public Stream<ServeEvent> findCandidates(RequestPattern requestPattern) {
+    final Stream<Long> candidates = index.findCandidates(requestPattern);
+    return candidates != null ? eventsFor(candidates) : getAll();
+  }
+
+  @Override
+  public Stream<ServeEvent> getAllForStubMapping(UUID stubMappingId) {
+    return eventsFor(index.findByStubMappingId(stubMappingId));
   }
 
   @Override
   public void removeLast() {
-    final UUID id = deque.pollLast();
-    if (id != null) {
-      serveEvents.remove(id);
+    final Map.Entry<Long, ServeEvent> oldest = serveEvents.pollFirstEntry();
+    if (oldest != null) {
+      sequencesById.computeIfPresent(
+          oldest.getValue().getId(),
+          (id, sequences) -> {
+            sequences.remove(oldest.getKey());
+            return sequences.isEmpty() ? null : sequences;
+          });
+      index.remove(oldest.getKey(), oldest.getValue());
     }
   }
 
@@ -54,25 +78,47 @@ public class InMemoryRequestJournalStore implements RequestJournalStore {
 
   @Override
   public Optional<ServeEvent> get(UUID id) {
-    return Optional.ofNullable(serveEvents.get(id));
+    final NavigableSet<Long> sequences = sequencesById.get(id);
+    return sequences != null
+        ? sequences.stream().map(serveEvents::get).filter(Objects::nonNull).findFirst()
+        : Optional.empty();
   }
 
   @Override
   public void put(UUID id, ServeEvent event) {
-    if (deque.contains(id)) {
-      serveEvents.put(id, event);
+    final NavigableSet<Long> sequences = sequencesById.get(id);
+    if (sequences != null) {
+      for (Long sequence : sequences) {
+        final ServeEvent previous = serveEvents.replace(sequence, event);
+        if (previous != null) {
+          index.remove(sequence, previous);
+          index.add(sequence, event);
+        }
+      }
     }
   }
 
   @Override
   public void remove(UUID id) {
-    deque.stream().filter(eventId -> eventId.equals(id)).forEach(deque::remove);
-    serveEvents.remove(id);
+    final NavigableSet<Long> sequences = sequencesById.remove(id);
+    if (sequences != null) {
+      for (Long sequence : sequences) {
+        final ServeEvent removed = serveEvents.remove(sequence);
+        if (removed != null) {
+          index.remove(sequence, removed);
+        }
+      }
+    }
   }
 
   @Override
   public void clear() {
-    deque.clear();
     serveEvents.clear();
+    sequencesById.clear();
+    index.clear();
+  }
+
+  private Stream<ServeEvent> eventsFor(Stream<Long> sequences) {
+    return sequences.map(serveEvents::get).filter(Objects::nonNull);
   }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2022-2023 Thomas Akehurst
+ * Copyright (C) 2022-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -46,6 +46,11 @@ public class InMemoryScenariosStore implements ScenariosStore {
     scenarioMap.put(key, content);
   }
 
+  @Override
+  public boolean compareAndSet(String key, Scenario expected, Scenario newValue) {
+    return scenarioMap.replace(key, expected, newValue);
+  }
+
   @Override
   public void remove(String key) {
     scenarioMap.remove(key);
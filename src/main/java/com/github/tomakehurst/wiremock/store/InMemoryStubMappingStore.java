@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2022-2023 Thomas Akehurst
+ * Copyright (C) 2022-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,21 +15,39 @@
  */
 package com.github.tomakehurst.wiremock.store;
 
+import com.github.tomakehurst.wiremock.common.Pair;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.matching.RequestMatcherExtension;
 import com.github.tomakehurst.wiremock.stubbing.SortedConcurrentMappingSet;
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import com.github.tomakehurst.wiremock.stubbing.SubEvent;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import org.wiremock.annotations.Beta;
 
 @Beta(justification = "Externalized State API: https://github.com/wiremock/wiremock/issues/2144")
 public class InMemoryStubMappingStore implements StubMappingStore {
 
-  private final SortedConcurrentMappingSet mappings = new SortedConcurrentMappingSet();
+  private final SortedConcurrentMappingSet mappings;
+
+  public InMemoryStubMappingStore() {
+    this(true);
+  }
+
+  /**
+   * @param indexed whether to bucket stubs by method and URL so that requests are only matched
+   *     against stubs that could apply to them, rather than scanning every stub.
+   */
+  public InMemoryStubMappingStore(boolean indexed) {
+    this.mappings = new SortedConcurrentMappingSet(indexed);
+  }
 
   @Override
   public Optional<StubMapping> get(UUID id) {
-    return mappings.stream().filter(stubMapping -> stubMapping.getId().equals(id)).findFirst();
+    return mappings.get(id);
   }
 
   @Override
@@ -47,6 +65,22 @@ public class InMemoryStubMappingStore implements StubMappingStore {
     return mappings.stream();
   }
 
+  @Override
+  public Stream<StubMapping> findAllMatchingRequest(
+      Request request,
+      Map<String, RequestMatcherExtension> customMatchers,
+      Consumer<SubEvent> subEventConsumer) {
+    return mappings
+        .findCandidates(request)
+        .map(
+            candidate ->
+                Pair.pair(
+                    candidate.a, candidate.a.getMatcherPlan().match(candidate.b, customMatchers)))
+        .peek(stubAndMatchResult -> stubAndMatchResult.b.getSubEvents().forEach(subEventConsumer))
+        .filter(stubAndMatchResult -> stubAndMatchResult.b.isExactMatch())
+        .map(stubAndMatchResult -> stubAndMatchResult.a);
+  }
+
   @Override
   public void add(StubMapping stubMapping) {
     mappings.add(stubMapping);
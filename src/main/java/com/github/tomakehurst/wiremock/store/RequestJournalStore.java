@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2022-2023 Thomas Akehurst
+ * Copyright (C) 2022-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,7 @@
  */
 package com.github.tomakehurst.wiremock.store;
 
+import com.github.tomakehurst.wiremock.matching.RequestPattern;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import java.util.UUID;
 import java.util.stream.Stream;
@@ -28,4 +29,25 @@ public interface RequestJournalStore extends Store<UUID, ServeEvent> {
   void add(ServeEvent event);
 
   void removeLast();
+
+  /**
+   * Returns the events that could match the request pattern, newest first. Implementations may
+   * narrow the events using an index, but callers must still match each event against the pattern.
+   */
+  default Stream<ServeEvent> findCandidates(RequestPattern requestPattern) {
+    return getAll();
+  }
+
+  /** Returns the events that were served by the given stub, newest first. */
+  default Stream<ServeEvent> getAllForStubMapping(UUID stubMappingId) {
+    return getAll()
+        .filter(
+            event ->
+                event.getStubMapping() != null
+                    && stubMappingId.equals(event.getStubMapping().getId()));
+  }
+
+  default int size() {
+    return (int) getAllKeys().count();
+  }
 }
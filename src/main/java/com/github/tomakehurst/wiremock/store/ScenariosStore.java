@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2022-2023 Thomas Akehurst
+ * Copyright (C) 2022-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,4 +23,18 @@ import org.wiremock.annotations.Beta;
 public interface ScenariosStore extends Store<String, Scenario> {
 
   Stream<Scenario> getAll();
+
+  /**
+   * Replaces the scenario only if it is currently equal to the expected one, returning whether it
+   * was replaced. Implementations should override this to make the check and the replacement a
+   * single atomic operation.
+   */
+  default boolean compareAndSet(String key, Scenario expected, Scenario newValue) {
+    if (!get(key).map(expected::equals).orElse(false)) {
+      return false;
+    }
+
+    put(key, newValue);
+    return true;
+  }
 }
@@ -0,0 +1,184 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.store;
+
+import static com.github.tomakehurst.wiremock.http.RequestMethod.ANY;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.GET_OR_HEAD;
+
+import com.github.tomakehurst.wiremock.common.Urls;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.matching.EqualToPattern;
+import com.github.tomakehurst.wiremock.matching.RequestPattern;
+import com.github.tomakehurst.wiremock.matching.StringValuePattern;
+import com.github.tomakehurst.wiremock.matching.UrlPathPattern;
+import com.github.tomakehurst.wiremock.matching.UrlPattern;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+
+/**
+ * Indexes the sequence numbers of journalled serve events by request method, request path and
+ * matched stub ID, so that queries with literal constraints only need to visit the events that
+ * could satisfy them.
+ */
+class ServeEventIndex {
+
+  private final Map<String, NavigableSet<Long>> byMethod = new ConcurrentHashMap<>();
+  private final Map<String, NavigableSet<Long>> byPath = new ConcurrentHashMap<>();
+  private final Map<UUID, NavigableSet<Long>> byStubMappingId = new ConcurrentHashMap<>();
+
+  void add(long sequence, ServeEvent event) {
+    final String method = methodOf(event);
+    if (method != null) {
+      addTo(byMethod, method, sequence);
+    }
+
+    final String path = pathOf(event);
+    if (path != null) {
+      addTo(byPath, path, sequence);
+    }
+
+    final UUID stubMappingId = stubMappingIdOf(event);
+    if (stubMappingId != null) {
+      addTo(byStubMappingId, stubMappingId, sequence);
+    }
+  }
+
+  void remove(long sequence, ServeEvent event) {
+    final String method = methodOf(event);
+    if (method != null) {
+      removeFrom(byMethod, method, sequence);
+    }
+
+    final String path = pathOf(event);
+    if (path != null) {
+      removeFrom(byPath, path, sequence);
+    }
+
+    final UUID stubMappingId = stubMappingIdOf(event);
+    if (stubMappingId != null) {
+      removeFrom(byStubMappingId, stubMappingId, sequence);
+    }
+  }
+
+  void clear() {
+    byMethod.clear();
+    byPath.clear();
+    byStubMappingId.clear();
+  }
+
+  /**
+   * Returns the sequence numbers of events that could match the request pattern, newest first, or
+   * null if the pattern has no literal method or path to narrow the search by.
+   */
+  Stream<Long> findCandidates(RequestPattern requestPattern) {
+    final RequestMethod method = requestPattern.getMethod();
+    final NavigableSet<Long> methodCandidates =
+        method.isOneOf(ANY, GET_OR_HEAD) ? null : candidates(byMethod, method.getName());
+
+    final String path = literalPathOf(requestPattern.getUrlMatcher());
+    final NavigableSet<Long> pathCandidates = path != null ? candidates(byPath, path) : null;
+
+    if (methodCandidates == null && pathCandidates == null) {
+      return null;
+    }
+
+    if (methodCandidates == null || pathCandidates == null) {
+      return newestFirst(methodCandidates != null ? methodCandidates : pathCandidates);
+    }
+
+    final boolean methodIsNarrower = methodCandidates.size() <= pathCandidates.size();
+    final NavigableSet<Long> narrower = methodIsNarrower ? methodCandidates : pathCandidates;
+    final Set<Long> wider = methodIsNarrower ? pathCandidates : methodCandidates;
+    return newestFirst(narrower).filter(wider::contains);
+  }
+
+  /** Returns the sequence numbers of events served by the given stub, newest first. */
+  Stream<Long> findByStubMappingId(UUID stubMappingId) {
+    return newestFirst(candidates(byStubMappingId, stubMappingId));
+  }
+
+  private static Stream<Long> newestFirst(NavigableSet<Long> sequences) {
+    return sequences.descendingSet().stream();
+  }
+
+  private static <K> NavigableSet<Long> candidates(Map<K, NavigableSet<Long>> index, K key) {
+    final NavigableSet<Long> sequences = index.get(key);
+    return sequences != null ? sequences : new ConcurrentSkipListSet<>();
+  }
+
+  private static <K> void addTo(Map<K, NavigableSet<Long>> index, K key, long sequence) {
+    index.compute(
+        key,
+        (k, sequences) -> {
+          final NavigableSet<Long> result =
+              sequences != null ? sequences : new ConcurrentSkipListSet<>();
+          result.add(sequence);
+          return result;
+        });
+  }
+
+  private static <K> void removeFrom(Map<K, NavigableSet<Long>> index, K key, long sequence) {
+    index.computeIfPresent(
+        key,
+        (k, sequences) -> {
+          sequences.remove(sequence);
+          return sequences.isEmpty() ? null : sequences;
+        });
+  }
+
+  private static String methodOf(ServeEvent event) {
+    return event.getRequest() != null && event.getRequest().getMethod() != null
+        ? event.getRequest().getMethod().getName()
+        : null;
+  }
+
+  private static String pathOf(ServeEvent event) {
+    return event.getRequest() != null && event.getRequest().getUrl() != null
+        ? Urls.getPath(event.getRequest().getUrl())
+        : null;
+  }
+
+  private static UUID stubMappingIdOf(ServeEvent event) {
+    return event.getStubMapping() != null
+            && event.getResponseDefinition() != null
+            && event.getWasMatched()
+        ? event.getStubMapping().getId()
+        : null;
+  }
+
+  private static String literalPathOf(UrlPattern urlPattern) {
+    final StringValuePattern pattern = urlPattern.getPattern();
+    final boolean isLiteral =
+        pattern != null
+            && pattern.getClass().equals(EqualToPattern.class)
+            && pattern.getValue() != null
+            && !Boolean.TRUE.equals(((EqualToPattern) pattern).getCaseInsensitive());
+
+    if (isLiteral
+        && (urlPattern.getClass().equals(UrlPattern.class)
+            || urlPattern.getClass().equals(UrlPathPattern.class))) {
+      return Urls.getPath(pattern.getValue());
+    }
+
+    return null;
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2022-2024 Thomas Akehurst
+ * Copyright (C) 2022-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -39,7 +39,7 @@ public interface StubMappingStore {
     return getAll()
         .map(
             stubMapping ->
-                Pair.pair(stubMapping, stubMapping.getRequest().match(request, customMatchers)))
+                Pair.pair(stubMapping, stubMapping.getMatcherPlan().match(request, customMatchers)))
         .peek(stubAndMatchResult -> stubAndMatchResult.b.getSubEvents().forEach(subEventConsumer))
         .filter(stubAndMatchResult -> stubAndMatchResult.b.isExactMatch())
         .map(stubAndMatchResult -> stubAndMatchResult.a);
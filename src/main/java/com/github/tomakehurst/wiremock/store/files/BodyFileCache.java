@@ -0,0 +1,244 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.store.files;
+
+import static com.github.tomakehurst.wiremock.common.Lazy.lazy;
+
+import com.github.tomakehurst.wiremock.common.Gzip;
+import com.github.tomakehurst.wiremock.common.GzippableInputStreamSource;
+import com.github.tomakehurst.wiremock.common.Lazy;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The contents of small body files, held in memory so they can be served without opening and
+ * reading the file. Every lookup compares the file's current size and modification time with those
+ * it had when it was read, so a changed file is read again by the next request that uses it.
+ *
+ * <p>Files larger than the entry limit are never cached. The total held is bounded in bytes, and
+ * the least recently used contents are dropped first when it's reached.
+ *
+ * <p>Larger files are sent from memory mappings instead. Each file's mapping is kept, revalidated
+ * in the same way, and shared by every response that sends it, so serving a file repeatedly doesn't
+ * use up the process's mappings. The number of files kept mapped is bounded too.
+ */
+public class BodyFileCache {
+
+  public static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+  public static final int DEFAULT_MAX_ENTRY_BYTES = 1024 * 1024;
+  public static final int DEFAULT_MAX_MAPPED_FILES = 256;
+
+  // Windows won't let a mapped file be deleted or replaced until the mapping is garbage collected
+  private static final boolean MAPPED_FILES_STAY_LOCKED =
+      System.getProperty("os.name", "").startsWith("Windows");
+
+  private final int maxEntryBytes;
+  private final Cache<Path, CachedFile> cache;
+  private final Cache<Path, MappedFile> mappings;
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+
+  public BodyFileCache() {
+    this(DEFAULT_MAX_BYTES, DEFAULT_MAX_ENTRY_BYTES);
+  }
+
+  public BodyFileCache(long maxBytes, int maxEntryBytes) {
+    this(maxBytes, maxEntryBytes, DEFAULT_MAX_MAPPED_FILES);
+  }
+
+  public BodyFileCache(long maxBytes, int maxEntryBytes, int maxMappedFiles) {
+    this.maxEntryBytes = (int) Math.min(maxEntryBytes, maxBytes);
+    this.cache =
+        CacheBuilder.newBuilder()
+            .maximumWeight(Math.max(maxBytes, 0))
+            .weigher((Path path, CachedFile file) -> file.contents.length)
+            .recordStats()
+            .build();
+    this.mappings = CacheBuilder.newBuilder().maximumSize(Math.max(maxMappedFiles, 0)).build();
+  }
+
+  /**
+   * The file's contents, from the cache if the file hasn't changed since it was cached. Returns
+   * empty if the file is too large to cache or can't be read.
+   *
+   * <p>The returned source isn't a {@link
+   * com.github.tomakehurst.wiremock.common.StreamSources.ByteArrayInputStreamSource}, so the body
+   * is still treated as coming from a file. Its gzipped copy is kept with the cached contents, and
+   * isn't counted towards the cache's size.
+   */
+  Optional<GzippableInputStreamSource> contentsOf(Path path, BasicFileAttributes attributes) {
+    if (attributes.size() > maxEntryBytes) {
+      return Optional.empty();
+    }
+
+    final CachedFile cached = cache.getIfPresent(path);
+    if (cached != null && cached.isCurrentFor(attributes)) {
+      hitCount.increment();
+      return Optional.of(cached);
+    }
+
+    missCount.increment();
+    final byte[] contents;
+    try {
+      contents = Files.readAllBytes(path);
+    } catch (IOException e) {
+      // Reading the body stream will report the problem
+      cache.invalidate(path);
+      return Optional.empty();
+    }
+
+    // A file that changed while it was being read is served, but not cached against the old stamp
+    final CachedFile file = new CachedFile(attributes.lastModifiedTime(), contents);
+    if (contents.length == attributes.size()) {
+      cache.put(path, file);
+    } else {
+      cache.invalidate(path);
+    }
+
+    return Optional.of(file);
+  }
+
+  /**
+   * The file's current contents memory mapped, from its kept mapping if the file hasn't changed
+   * since it was mapped. Returns empty if the file can't be mapped, e.g. it's over 2GB or can't be
+   * opened, or on Windows.
+   *
+   * <p>Each call returns its own view of the mapping, so callers can consume it independently.
+   */
+  Optional<ByteBuffer> mappingOf(Path path) {
+    if (MAPPED_FILES_STAY_LOCKED) {
+      return Optional.empty();
+    }
+
+    final BasicFileAttributes attributes;
+    try {
+      attributes = Files.readAttributes(path, BasicFileAttributes.class);
+    } catch (IOException e) {
+      // Reading the body stream will report the problem
+      mappings.invalidate(path);
+      return Optional.empty();
+    }
+
+    final MappedFile mapped = mappings.getIfPresent(path);
+    if (mapped != null && mapped.isCurrentFor(attributes)) {
+      return Optional.of(mapped.contents.duplicate());
+    }
+
+    mappings.invalidate(path);
+    if (attributes.size() > Integer.MAX_VALUE) {
+      return Optional.empty();
+    }
+
+    final MappedFile file;
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      file =
+          new MappedFile(
+              attributes.lastModifiedTime(),
+              channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    } catch (IOException e) {
+      return Optional.empty();
+    }
+
+    // As with contents, a file that changed while it was being mapped isn't kept
+    if (file.contents.capacity() == attributes.size()) {
+      mappings.put(path, file);
+    }
+
+    return Optional.of(file.contents.duplicate());
+  }
+
+  void invalidate(Path path) {
+    cache.invalidate(path);
+    mappings.invalidate(path);
+  }
+
+  void invalidateAll() {
+    cache.invalidateAll();
+    mappings.invalidateAll();
+  }
+
+  public BodyFileCacheStatistics getStatistics() {
+    final long bytes =
+        cache.asMap().values().stream().mapToLong(file -> file.contents.length).sum();
+    return new BodyFileCacheStatistics(
+        cache.size(),
+        bytes,
+        hitCount.sum(),
+        missCount.sum(),
+        cache.stats().evictionCount(),
+        mappings.size());
+  }
+
+  private static class CachedFile implements GzippableInputStreamSource {
+    final FileTime lastModified;
+    final byte[] contents;
+    final Lazy<byte[]> gzipped;
+
+    CachedFile(FileTime lastModified, byte[] contents) {
+      this.lastModified = lastModified;
+      this.contents = contents;
+      this.gzipped = lazy(() -> Gzip.gzip(contents));
+    }
+
+    @Override
+    public InputStream getStream() {
+      return new ByteArrayInputStream(contents);
+    }
+
+    @Override
+    public int getLength() {
+      return contents.length;
+    }
+
+    @Override
+    public byte[] getGzippedBytes() {
+      return gzipped.get();
+    }
+
+    boolean isCurrentFor(BasicFileAttributes attributes) {
+      return contents.length == attributes.size()
+          && lastModified.equals(attributes.lastModifiedTime());
+    }
+  }
+
+  private static class MappedFile {
+    final FileTime lastModified;
+    final MappedByteBuffer contents;
+
+    MappedFile(FileTime lastModified, MappedByteBuffer contents) {
+      this.lastModified = lastModified;
+      this.contents = contents;
+    }
+
+    boolean isCurrentFor(BasicFileAttributes attributes) {
+      return contents.capacity() == attributes.size()
+          && lastModified.equals(attributes.lastModifiedTime());
+    }
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.store.files;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public class BodyFileCacheStatistics {
+
+  private final long size;
+  private final long bytes;
+  private final long hitCount;
+  private final long missCount;
+  private final long evictionCount;
+  private final long mappedFiles;
+
+  @JsonCreator
+  public BodyFileCacheStatistics(
+      @JsonProperty("size") long size,
+      @JsonProperty("bytes") long bytes,
+      @JsonProperty("hitCount") long hitCount,
+      @JsonProperty("missCount") long missCount,
+      @JsonProperty("evictionCount") long evictionCount,
+      @JsonProperty("mappedFiles") long mappedFiles) {
+    this.size = size;
+    this.bytes = bytes;
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+    this.evictionCount = evictionCount;
+    this.mappedFiles = mappedFiles;
+  }
+
+  public long getSize() {
+    return size;
+  }
+
+  public long getBytes() {
+    return bytes;
+  }
+
+  public long getHitCount() {
+    return hitCount;
+  }
+
+  public long getMissCount() {
+    return missCount;
+  }
+
+  public long getEvictionCount() {
+    return evictionCount;
+  }
+
+  public long getMappedFiles() {
+    return mappedFiles;
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2022-2023 Thomas Akehurst
+ * Copyright (C) 2022-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,7 +22,11 @@ import com.github.tomakehurst.wiremock.common.*;
 import com.github.tomakehurst.wiremock.store.BlobStore;
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Optional;
 import java.util.stream.Stream;
 import org.wiremock.annotations.Beta;
@@ -31,13 +35,19 @@ import org.wiremock.annotations.Beta;
 public class FileSourceBlobStore implements BlobStore, PathBased {
 
   private final FileSource fileSource;
+  private final BodyFileCache bodyFileCache;
 
   FileSourceBlobStore(String root) {
-    this.fileSource = new SingleRootFileSource(root);
+    this(new SingleRootFileSource(root));
   }
 
   public FileSourceBlobStore(FileSource fileSource) {
+    this(fileSource, new BodyFileCache());
+  }
+
+  public FileSourceBlobStore(FileSource fileSource, BodyFileCache bodyFileCache) {
     this.fileSource = fileSource;
+    this.bodyFileCache = bodyFileCache;
   }
 
   @Override
@@ -57,7 +67,38 @@ public class FileSourceBlobStore implements BlobStore, PathBased {
 
   @Override
   public InputStreamSource getStreamSource(String key) {
-    return StreamSources.forBlobStoreItem(this, key);
+    final InputStreamSource streamSource = StreamSources.forBlobStoreItem(this, key);
+    final Path path = filePathOf(key).orElse(null);
+    final BasicFileAttributes attributes = path != null ? regularFileAttributesOf(path) : null;
+    if (attributes == null) {
+      return streamSource;
+    }
+
+    return bodyFileCache
+        .contentsOf(path, attributes)
+        .<InputStreamSource>map(contents -> contents)
+        .orElseGet(
+            () ->
+                new StreamSources.FileInputStreamSource(
+                    path, streamSource, () -> bodyFileCache.mappingOf(path)));
+  }
+
+  private Optional<Path> filePathOf(String key) {
+    try {
+      return fileSource.getBinaryFileNamed(key).getFilePath();
+    } catch (Exception e) {
+      // Reading the stream will report the problem
+      return Optional.empty();
+    }
+  }
+
+  private static BasicFileAttributes regularFileAttributesOf(Path path) {
+    try {
+      final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+      return attributes.isRegularFile() ? attributes : null;
+    } catch (IOException e) {
+      return null;
+    }
   }
 
   @Override
@@ -86,22 +127,29 @@ public class FileSourceBlobStore implements BlobStore, PathBased {
   @Override
   public void put(String key, byte[] content) {
     fileSource.writeBinaryFile(key, content);
+    filePathOf(key).ifPresent(bodyFileCache::invalidate);
   }
 
   @Override
   public void remove(String key) {
     fileSource.deleteFile(key);
+    filePathOf(key).ifPresent(bodyFileCache::invalidate);
   }
 
   @Override
   public void clear() {
     fileSource.listFilesRecursively().forEach(file -> fileSource.deleteFile(file.getPath()));
+    bodyFileCache.invalidateAll();
   }
 
   public FileSource getFileSource() {
     return fileSource;
   }
 
+  public BodyFileCacheStatistics getBodyFileCacheStatistics() {
+    return bodyFileCache.getStatistics();
+  }
+
   @Override
   public String getPath() {
     return fileSource.getPath();
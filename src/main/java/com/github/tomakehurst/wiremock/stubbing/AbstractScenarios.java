@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2017-2023 Thomas Akehurst
+ * Copyright (C) 2017-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -99,14 +99,31 @@ public abstract class AbstractScenarios implements Scenarios {
 
   @Override
   public void onStubServed(StubMapping mapping) {
-    if (mapping.isInScenario()) {
-      final String scenarioName = mapping.getScenarioName();
-      Scenario scenario = store.get(scenarioName).orElseThrow(IllegalStateException::new);
-      if (mapping.modifiesScenarioState()
-          && (mapping.getRequiredScenarioState() == null
-              || scenario.getState().equals(mapping.getRequiredScenarioState()))) {
-        Scenario newScenario = scenario.setState(mapping.getNewScenarioState());
-        store.put(scenarioName, newScenario);
+    tryServe(mapping);
+  }
+
+  @Override
+  public boolean tryServe(StubMapping mapping) {
+    if (!mapping.isInScenario()) {
+      return true;
+    }
+
+    final String scenarioName = mapping.getScenarioName();
+    while (true) {
+      final Scenario scenario = store.get(scenarioName).orElse(null);
+      if (scenario == null) {
+        return mapping.isIndependentOfScenarioState();
+      }
+
+      if (mapping.getRequiredScenarioState() != null
+          && !scenario.getState().equals(mapping.getRequiredScenarioState())) {
+        return false;
+      }
+
+      if (!mapping.modifiesScenarioState()
+          || store.compareAndSet(
+              scenarioName, scenario, scenario.setState(mapping.getNewScenarioState()))) {
+        return true;
       }
     }
   }
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2022-2024 Thomas Akehurst
+ * Copyright (C) 2022-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,7 +16,6 @@
 package com.github.tomakehurst.wiremock.stubbing;
 
 import static com.github.tomakehurst.wiremock.common.LocalNotifier.notifier;
-import static com.github.tomakehurst.wiremock.common.Pair.pair;
 import static com.github.tomakehurst.wiremock.common.ParameterUtils.getFirstNonNull;
 import static com.github.tomakehurst.wiremock.extension.ServeEventListener.RequestPhase.AFTER_MATCH;
 import static com.github.tomakehurst.wiremock.extension.ServeEventListenerUtils.triggerListeners;
@@ -28,7 +27,6 @@ import com.github.tomakehurst.wiremock.common.Errors;
 import com.github.tomakehurst.wiremock.common.FileSource;
 import com.github.tomakehurst.wiremock.common.InvalidInputException;
 import com.github.tomakehurst.wiremock.common.Json;
-import com.github.tomakehurst.wiremock.common.Pair;
 import com.github.tomakehurst.wiremock.extension.*;
 import com.github.tomakehurst.wiremock.http.Request;
 import com.github.tomakehurst.wiremock.http.ResponseDefinition;
@@ -50,6 +48,8 @@ public abstract class AbstractStubMappings implements StubMappings {
   protected final FileSource filesFileSource;
   protected final List<StubLifecycleListener> stubLifecycleListeners;
   protected final Map<String, ServeEventListener> serveEventListeners;
+  private final TransformerChain<ResponseDefinitionTransformer> v1TransformerChain;
+  private final TransformerChain<ResponseDefinitionTransformerV2> v2TransformerChain;
 
   public AbstractStubMappings(
       StubMappingStore store,
@@ -60,14 +60,48 @@ public abstract class AbstractStubMappings implements StubMappings {
       BlobStore filesBlobStore,
       List<StubLifecycleListener> stubLifecycleListeners,
       Map<String, ServeEventListener> serveEventListeners) {
+    this(
+        store,
+        scenarios,
+        customMatchers,
+        transformers,
+        v2transformers,
+        filesBlobStore,
+        stubLifecycleListeners,
+        serveEventListeners,
+        new TransformerTimings());
+  }
+
+  public AbstractStubMappings(
+      StubMappingStore store,
+      Scenarios scenarios,
+      Map<String, RequestMatcherExtension> customMatchers,
+      Map<String, ResponseDefinitionTransformer> transformers,
+      Map<String, ResponseDefinitionTransformerV2> v2transformers,
+      BlobStore filesBlobStore,
+      List<StubLifecycleListener> stubLifecycleListeners,
+      Map<String, ServeEventListener> serveEventListeners,
+      TransformerTimings transformerTimings) {
     this.store = store;
     this.scenarios = scenarios;
     this.customMatchers = customMatchers;
     this.transformers = transformers;
     this.v2transformers = v2transformers;
     this.filesFileSource = new BlobStoreFileSource(filesBlobStore);
-    this.stubLifecycleListeners = stubLifecycleListeners;
+    this.stubLifecycleListeners = new ArrayList<>(stubLifecycleListeners.size() + 1);
+    this.stubLifecycleListeners.add(new MatcherPlanLifecycleListener());
+    this.stubLifecycleListeners.addAll(stubLifecycleListeners);
     this.serveEventListeners = serveEventListeners;
+    this.v1TransformerChain =
+        new TransformerChain<>(
+            List.copyOf(transformers.values()),
+            ResponseDefinitionTransformer::applyGlobally,
+            transformerTimings);
+    this.v2TransformerChain =
+        new TransformerChain<>(
+            List.copyOf(v2transformers.values()),
+            ResponseDefinitionTransformerV2::applyGlobally,
+            transformerTimings);
   }
 
   @Override
@@ -80,17 +114,12 @@ public abstract class AbstractStubMappings implements StubMappings {
     StubMapping matchingStub =
         store
             .findAllMatchingRequest(request, customMatchers, subEvents::add)
-            .filter(
-                stubMapping ->
-                    stubMapping.isIndependentOfScenarioState()
-                        || scenarios.mappingMatchesScenarioState(stubMapping))
+            .filter(scenarios::tryServe)
             .findFirst()
             .orElse(StubMapping.NOT_CONFIGURED);
 
     subEvents.forEach(initialServeEvent::appendSubEvent);
 
-    scenarios.onStubServed(matchingStub);
-
     final ResponseDefinition initialResponseDefinition = matchingStub.getResponse();
     ServeEvent serveEvent =
         initialServeEvent
@@ -100,61 +129,58 @@ public abstract class AbstractStubMappings implements StubMappings {
 
     triggerListeners(serveEventListeners, AFTER_MATCH, serveEvent);
 
-    ResponseDefinition responseDefinition =
-        applyV1Transformations(
-            request, matchingStub.getResponse(), List.copyOf(transformers.values()));
-
-    serveEvent = serveEvent.withResponseDefinition(responseDefinition);
-
-    final Pair<ServeEvent, ResponseDefinition> transformed =
-        applyV2Transformations(serveEvent, List.copyOf(v2transformers.values()));
-    serveEvent = transformed.a;
-    responseDefinition = transformed.b;
+    serveEvent = applyV1Transformations(serveEvent, request);
+    serveEvent = applyV2Transformations(serveEvent);
 
-    return serveEvent.withResponseDefinition(copyOf(responseDefinition));
+    return serveEvent.withResponseDefinition(copyOf(serveEvent.getResponseDefinition()));
   }
 
-  private ResponseDefinition applyV1Transformations(
-      Request request,
-      ResponseDefinition responseDefinition,
-      List<ResponseDefinitionTransformer> transformers) {
-
-    if (transformers.isEmpty()) {
-      return responseDefinition;
+  private ServeEvent applyV1Transformations(ServeEvent serveEvent, Request request) {
+    final ResponseDefinition initialResponseDefinition = serveEvent.getResponseDefinition();
+    ResponseDefinition responseDefinition = initialResponseDefinition;
+    Iterator<ResponseDefinitionTransformer> remaining =
+        v1TransformerChain.resolve(initialResponseDefinition).iterator();
+    while (remaining.hasNext()) {
+      final ResponseDefinitionTransformer transformer = remaining.next();
+      final ResponseDefinition current = responseDefinition;
+      responseDefinition =
+          v1TransformerChain.time(
+              transformer,
+              () ->
+                  transformer.transform(
+                      request,
+                      current,
+                      filesFileSource,
+                      getFirstNonNull(current.getTransformerParameters(), Parameters.empty())));
+      if (!Objects.equals(responseDefinition.getTransformers(), current.getTransformers())) {
+        remaining = v1TransformerChain.resolveAfter(transformer, responseDefinition).iterator();
+      }
     }
 
-    ResponseDefinitionTransformer transformer = transformers.get(0);
-    ResponseDefinition newResponseDef =
-        transformer.applyGlobally() || responseDefinition.hasTransformer(transformer)
-            ? transformer.transform(
-                request,
-                responseDefinition,
-                filesFileSource,
-                getFirstNonNull(responseDefinition.getTransformerParameters(), Parameters.empty()))
-            : responseDefinition;
-
-    return applyV1Transformations(
-        request, newResponseDef, transformers.subList(1, transformers.size()));
+    return responseDefinition != initialResponseDefinition
+        ? serveEvent.withResponseDefinition(responseDefinition)
+        : serveEvent;
   }
 
-  private Pair<ServeEvent, ResponseDefinition> applyV2Transformations(
-      ServeEvent serveEvent, List<ResponseDefinitionTransformerV2> transformers) {
-
-    final ResponseDefinition responseDefinition = serveEvent.getResponseDefinition();
-
-    if (transformers.isEmpty()) {
-      return pair(serveEvent, responseDefinition);
+  private ServeEvent applyV2Transformations(ServeEvent serveEvent) {
+    Iterator<ResponseDefinitionTransformerV2> remaining =
+        v2TransformerChain.resolve(serveEvent.getResponseDefinition()).iterator();
+    while (remaining.hasNext()) {
+      final ResponseDefinitionTransformerV2 transformer = remaining.next();
+      final ServeEvent current = serveEvent;
+      final ResponseDefinition responseDefinition =
+          v2TransformerChain.time(transformer, () -> transformer.transform(current));
+      if (responseDefinition != current.getResponseDefinition()) {
+        serveEvent = current.withResponseDefinition(responseDefinition);
+        if (!Objects.equals(
+            responseDefinition.getTransformers(),
+            current.getResponseDefinition().getTransformers())) {
+          remaining = v2TransformerChain.resolveAfter(transformer, responseDefinition).iterator();
+        }
+      }
     }
 
-    ResponseDefinitionTransformerV2 transformer = transformers.get(0);
-    ResponseDefinition newResponseDef =
-        transformer.applyGlobally() || responseDefinition.hasTransformer(transformer)
-            ? transformer.transform(serveEvent)
-            : responseDefinition;
-
-    return applyV2Transformations(
-        serveEvent.withResponseDefinition(newResponseDef),
-        transformers.subList(1, transformers.size()));
+    return serveEvent;
   }
 
   @Override
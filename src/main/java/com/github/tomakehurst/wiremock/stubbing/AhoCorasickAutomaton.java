@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.stubbing;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Finds which of a fixed set of literals occur in a text in a single pass over the text, however
+ * many literals there are. Immutable once built, so can be shared between threads.
+ */
+class AhoCorasickAutomaton {
+
+  private final List<String> literals;
+  private final Set<String> literalSet;
+
+  // Per state: sorted transition characters and their target states
+  private final char[][] transitionChars;
+  private final int[][] transitionTargets;
+  private final int[] failure;
+  // Per state: indexes of the literals ending at this state or any of its suffixes
+  private final int[][] outputs;
+
+  AhoCorasickAutomaton(Collection<String> literals) {
+    this.literals = new ArrayList<>(new HashSet<>(literals));
+    this.literalSet = Set.copyOf(this.literals);
+
+    final List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+    final List<List<Integer>> stateOutputs = new ArrayList<>();
+    trie.add(new TreeMap<>());
+    stateOutputs.add(new ArrayList<>());
+
+    for (int i = 0; i < this.literals.size(); i++) {
+      int state = 0;
+      for (char c : this.literals.get(i).toCharArray()) {
+        Integer next = trie.get(state).get(c);
+        if (next == null) {
+          next = trie.size();
+          trie.add(new TreeMap<>());
+          stateOutputs.add(new ArrayList<>());
+          trie.get(state).put(c, next);
+        }
+        state = next;
+      }
+      stateOutputs.get(state).add(i);
+    }
+
+    final int stateCount = trie.size();
+    transitionChars = new char[stateCount][];
+    transitionTargets = new int[stateCount][];
+    failure = new int[stateCount];
+    outputs = new int[stateCount][];
+
+    for (int state = 0; state < stateCount; state++) {
+      final TreeMap<Character, Integer> transitions = trie.get(state);
+      transitionChars[state] = new char[transitions.size()];
+      transitionTargets[state] = new int[transitions.size()];
+      int i = 0;
+      for (Map.Entry<Character, Integer> transition : transitions.entrySet()) {
+        transitionChars[state][i] = transition.getKey();
+        transitionTargets[state][i] = transition.getValue();
+        i++;
+      }
+    }
+
+    // Breadth first, so each state's failure target is finalised before its children's
+    final Queue<Integer> queue = new ArrayDeque<>();
+    for (int child : transitionTargets[0]) {
+      failure[child] = 0;
+      queue.add(child);
+    }
+    outputs[0] = toArray(stateOutputs.get(0));
+
+    while (!queue.isEmpty()) {
+      final int state = queue.remove();
+      final List<Integer> stateOutput = stateOutputs.get(state);
+      for (int output : outputs[failure[state]]) {
+        stateOutput.add(output);
+      }
+      outputs[state] = toArray(stateOutput);
+
+      for (int i = 0; i < transitionChars[state].length; i++) {
+        final char c = transitionChars[state][i];
+        final int child = transitionTargets[state][i];
+        int fallback = failure[state];
+        while (fallback != 0 && next(fallback, c) < 0) {
+          fallback = failure[fallback];
+        }
+        final int fallbackTarget = next(fallback, c);
+        failure[child] = fallbackTarget >= 0 && fallbackTarget != child ? fallbackTarget : 0;
+        queue.add(child);
+      }
+    }
+  }
+
+  boolean isEmpty() {
+    return literals.isEmpty();
+  }
+
+  boolean contains(String literal) {
+    return literalSet.contains(literal);
+  }
+
+  /** Returns the literals that occur at least once in the text. */
+  Set<String> findIn(String text) {
+    final Set<String> found = new HashSet<>();
+    int state = 0;
+    for (int i = 0; i < text.length() && found.size() < literals.size(); i++) {
+      final char c = text.charAt(i);
+      int target = next(state, c);
+      while (target < 0 && state != 0) {
+        state = failure[state];
+        target = next(state, c);
+      }
+      state = Math.max(target, 0);
+
+      for (int output : outputs[state]) {
+        found.add(literals.get(output));
+      }
+    }
+
+    return found;
+  }
+
+  private int next(int state, char c) {
+    final int i = Arrays.binarySearch(transitionChars[state], c);
+    return i >= 0 ? transitionTargets[state][i] : -1;
+  }
+
+  private static int[] toArray(List<Integer> values) {
+    return values.stream().mapToInt(Integer::intValue).toArray();
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.stubbing;
+
+import static com.github.tomakehurst.wiremock.common.Lazy.lazy;
+
+import com.github.tomakehurst.wiremock.common.Lazy;
+import com.github.tomakehurst.wiremock.common.Pair;
+import com.github.tomakehurst.wiremock.http.Request;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Excludes candidate stubs whose {@code contains} or {@code matches} body patterns need text the
+ * request body doesn't have. The body is searched for every stub's literals in one pass, and only
+ * when at least one candidate has any, so stubs with many body patterns don't each scan the body.
+ *
+ * <p>The automaton is rebuilt lazily after the stubs change. Literals it doesn't know about yet are
+ * assumed to be present, so a stale automaton can only let through extra candidates, never exclude
+ * one that would have matched.
+ */
+class BodyLiteralFilter {
+
+  private final Iterable<StubMapping> mappings;
+  private final AtomicLong version = new AtomicLong();
+  private volatile Snapshot snapshot = new Snapshot(-1, new AhoCorasickAutomaton(List.of()));
+
+  BodyLiteralFilter(Iterable<StubMapping> mappings) {
+    this.mappings = mappings;
+  }
+
+  void invalidate() {
+    version.incrementAndGet();
+  }
+
+  Stream<Pair<StubMapping, Request>> filter(
+      Stream<Pair<StubMapping, Request>> candidates, Request request) {
+    // Body patterns aren't applied at all to requests without a body
+    if (request.getBody() == null) {
+      return candidates;
+    }
+
+    final AhoCorasickAutomaton automaton = currentAutomaton();
+    if (automaton.isEmpty()) {
+      return candidates;
+    }
+
+    final Lazy<Set<String>> found = lazy(() -> automaton.findIn(request.getBodyAsString()));
+    return candidates.filter(
+        candidate ->
+            mightMatch(candidate.a.getMatcherPlan().getRequiredBodyLiterals(), automaton, found));
+  }
+
+  private static boolean mightMatch(
+      List<String> requiredLiterals, AhoCorasickAutomaton automaton, Lazy<Set<String>> found) {
+    for (String literal : requiredLiterals) {
+      if (automaton.contains(literal) && !found.get().contains(literal)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private AhoCorasickAutomaton currentAutomaton() {
+    final long currentVersion = version.get();
+    Snapshot current = snapshot;
+    if (current.version != currentVersion) {
+      synchronized (this) {
+        current = snapshot;
+        if (current.version != currentVersion) {
+          current = new Snapshot(currentVersion, buildAutomaton());
+          snapshot = current;
+        }
+      }
+    }
+
+    return current.automaton;
+  }
+
+  private AhoCorasickAutomaton buildAutomaton() {
+    final List<String> literals = new ArrayList<>();
+    for (StubMapping mapping : mappings) {
+      literals.addAll(mapping.getMatcherPlan().getRequiredBodyLiterals());
+    }
+
+    return new AhoCorasickAutomaton(literals);
+  }
+
+  private static class Snapshot {
+    final long version;
+    final AhoCorasickAutomaton automaton;
+
+    Snapshot(long version, AhoCorasickAutomaton automaton) {
+      this.version = version;
+      this.automaton = automaton;
+    }
+  }
+}
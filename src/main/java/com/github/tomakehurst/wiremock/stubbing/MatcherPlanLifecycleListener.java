@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.stubbing;
+
+import com.github.tomakehurst.wiremock.extension.StubLifecycleListener;
+
+/**
+ * Compiles each stub's matcher plan as the stub is added or edited, so the first request to hit it
+ * doesn't pay for compilation, and discards the plans of stubs that are replaced or removed.
+ */
+class MatcherPlanLifecycleListener implements StubLifecycleListener {
+
+  @Override
+  public void afterStubCreated(StubMapping stub) {
+    stub.getMatcherPlan();
+  }
+
+  @Override
+  public void afterStubEdited(StubMapping oldStub, StubMapping newStub) {
+    oldStub.invalidateMatcherPlan();
+    newStub.getMatcherPlan();
+  }
+
+  @Override
+  public void afterStubRemoved(StubMapping stub) {
+    stub.invalidateMatcherPlan();
+  }
+
+  @Override
+  public String getName() {
+    return "matcher-plan-lifecycle";
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2022 Thomas Akehurst
+ * Copyright (C) 2022-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -30,6 +30,19 @@ public interface Scenarios {
 
   void onStubServed(StubMapping mapping);
 
+  /**
+   * Checks that the mapping's scenario is in its required state and applies any state transition it
+   * specifies, returning false without changing anything if it isn't in the required state.
+   */
+  default boolean tryServe(StubMapping mapping) {
+    if (!mapping.isIndependentOfScenarioState() && !mappingMatchesScenarioState(mapping)) {
+      return false;
+    }
+
+    onStubServed(mapping);
+    return true;
+  }
+
   void reset();
 
   void resetSingle(String name);
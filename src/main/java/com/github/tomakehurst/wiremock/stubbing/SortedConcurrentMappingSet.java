@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2011-2023 Thomas Akehurst
+ * Copyright (C) 2011-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,8 +15,16 @@
  */
 package com.github.tomakehurst.wiremock.stubbing;
 
+import static com.github.tomakehurst.wiremock.common.Pair.pair;
+
+import com.github.tomakehurst.wiremock.common.Pair;
+import com.github.tomakehurst.wiremock.http.Request;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
@@ -25,10 +33,20 @@ public class SortedConcurrentMappingSet implements Iterable<StubMapping> {
 
   private final AtomicLong insertionCount;
   private final ConcurrentSkipListSet<StubMapping> mappingSet;
+  private final Map<UUID, StubMapping> mappingsById;
+  private final StubMappingIndex index;
+  private final BodyLiteralFilter bodyLiteralFilter;
 
   public SortedConcurrentMappingSet() {
+    this(false);
+  }
+
+  public SortedConcurrentMappingSet(boolean indexed) {
     insertionCount = new AtomicLong();
     mappingSet = new ConcurrentSkipListSet<>(sortedByPriorityThenReverseInsertionOrder());
+    mappingsById = new ConcurrentHashMap<>();
+    index = indexed ? new StubMappingIndex(sortedByPriorityThenReverseInsertionOrder()) : null;
+    bodyLiteralFilter = new BodyLiteralFilter(mappingSet);
   }
 
   private Comparator<StubMapping> sortedByPriorityThenReverseInsertionOrder() {
@@ -51,31 +69,84 @@ public class SortedConcurrentMappingSet implements Iterable<StubMapping> {
     return mappingSet.stream();
   }
 
+  /**
+   * Returns the mappings that could match the request, in the same order as {@link #stream()}, each
+   * paired with the request it should be matched against. When the set is indexed this excludes
+   * mappings whose method or URL can never match the request, otherwise all mappings are returned.
+   * Either way, mappings whose body patterns need text the request body doesn't contain are
+   * excluded.
+   */
+  public Stream<Pair<StubMapping, Request>> findCandidates(Request request) {
+    final Stream<Pair<StubMapping, Request>> candidates =
+        index != null
+            ? index.findCandidates(request)
+            : stream().map(mapping -> pair(mapping, request));
+    return bodyLiteralFilter.filter(candidates, request);
+  }
+
+  public Optional<StubMapping> get(UUID id) {
+    return id != null ? Optional.ofNullable(mappingsById.get(id)) : Optional.empty();
+  }
+
   public void add(StubMapping mapping) {
     mapping.setInsertionIndex(insertionCount.getAndIncrement());
     mappingSet.add(mapping);
+    if (mapping.getUuid() != null) {
+      mappingsById.put(mapping.getUuid(), mapping);
+    }
+    if (index != null) {
+      index.add(mapping);
+    }
+    bodyLiteralFilter.invalidate();
   }
 
   public boolean remove(final StubMapping mappingToRemove) {
-    boolean removedByUuid =
-        mappingSet.removeIf(
-            mapping ->
-                mappingToRemove.getUuid() != null
-                    && mapping.getUuid() != null
-                    && mappingToRemove.getUuid().equals(mapping.getUuid()));
-
-    boolean removedByRequestPattern =
-        !removedByUuid
-            && mappingSet.removeIf(
-                mapping -> mappingToRemove.getRequest().equals(mapping.getRequest()));
-
-    return removedByUuid || removedByRequestPattern;
+    final StubMapping existingWithSameUuid =
+        mappingToRemove.getUuid() != null ? mappingsById.get(mappingToRemove.getUuid()) : null;
+    if (existingWithSameUuid != null && removeExisting(existingWithSameUuid)) {
+      return true;
+    }
+
+    boolean removed = false;
+    for (StubMapping mapping : mappingSet) {
+      if (mappingToRemove.getRequest().equals(mapping.getRequest()) && removeExisting(mapping)) {
+        removed = true;
+      }
+    }
+
+    return removed;
+  }
+
+  private boolean removeExisting(StubMapping mapping) {
+    if (!mappingSet.remove(mapping)) {
+      return false;
+    }
+
+    if (mapping.getUuid() != null) {
+      mappingsById.remove(mapping.getUuid(), mapping);
+    }
+    if (index != null) {
+      index.remove(mapping);
+    }
+    bodyLiteralFilter.invalidate();
+    return true;
   }
 
   public boolean replace(StubMapping existingStubMapping, StubMapping newStubMapping) {
 
     if (mappingSet.remove(existingStubMapping)) {
       mappingSet.add(newStubMapping);
+      if (existingStubMapping.getUuid() != null) {
+        mappingsById.remove(existingStubMapping.getUuid(), existingStubMapping);
+      }
+      if (newStubMapping.getUuid() != null) {
+        mappingsById.put(newStubMapping.getUuid(), newStubMapping);
+      }
+      if (index != null) {
+        index.remove(existingStubMapping);
+        index.add(newStubMapping);
+      }
+      bodyLiteralFilter.invalidate();
       return true;
     }
     return false;
@@ -83,6 +154,11 @@ public class SortedConcurrentMappingSet implements Iterable<StubMapping> {
 
   public void clear() {
     mappingSet.clear();
+    mappingsById.clear();
+    if (index != null) {
+      index.clear();
+    }
+    bodyLiteralFilter.invalidate();
   }
 
   @Override
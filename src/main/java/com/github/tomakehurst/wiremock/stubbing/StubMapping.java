@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2011-2023 Thomas Akehurst
+ * Copyright (C) 2011-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,6 +24,7 @@ import com.github.tomakehurst.wiremock.extension.Parameters;
 import com.github.tomakehurst.wiremock.extension.PostServeActionDefinition;
 import com.github.tomakehurst.wiremock.extension.ServeEventListenerDefinition;
 import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.github.tomakehurst.wiremock.matching.RequestMatcherPlan;
 import com.github.tomakehurst.wiremock.matching.RequestPattern;
 import java.util.List;
 import java.util.Map;
@@ -58,6 +59,8 @@ public class StubMapping {
   private long insertionIndex;
   private boolean isDirty = true;
 
+  private volatile RequestMatcherPlan matcherPlan;
+
   public StubMapping(RequestPattern requestPattern, ResponseDefinition response) {
     setRequest(requestPattern);
     this.response = response;
@@ -124,6 +127,25 @@ public class StubMapping {
 
   public void setRequest(RequestPattern request) {
     this.request = request;
+    this.matcherPlan = null;
+  }
+
+  /**
+   * The stub's request pattern compiled for exact matching. The plan is compiled when the stub is
+   * added or edited, or on first use otherwise, and discarded whenever the request pattern changes.
+   */
+  @JsonIgnore
+  public RequestMatcherPlan getMatcherPlan() {
+    RequestMatcherPlan plan = matcherPlan;
+    if (plan == null) {
+      plan = RequestMatcherPlan.compile(getRequest());
+      matcherPlan = plan;
+    }
+    return plan;
+  }
+
+  void invalidateMatcherPlan() {
+    matcherPlan = null;
   }
 
   public void setResponse(ResponseDefinition response) {
@@ -0,0 +1,266 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.stubbing;
+
+import static com.github.tomakehurst.wiremock.common.Pair.pair;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.GET;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.GET_OR_HEAD;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.HEAD;
+
+import com.github.tomakehurst.wiremock.common.Pair;
+import com.github.tomakehurst.wiremock.common.Urls;
+import com.github.tomakehurst.wiremock.common.url.PathTemplate;
+import com.github.tomakehurst.wiremock.common.url.PathTemplateRouter;
+import com.github.tomakehurst.wiremock.common.url.PathTemplateRouter.Route;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.http.RequestPathParamsDecorator;
+import com.github.tomakehurst.wiremock.matching.EqualToPattern;
+import com.github.tomakehurst.wiremock.matching.StringValuePattern;
+import com.github.tomakehurst.wiremock.matching.UrlPathPattern;
+import com.github.tomakehurst.wiremock.matching.UrlPathTemplatePattern;
+import com.github.tomakehurst.wiremock.matching.UrlPattern;
+import com.google.common.collect.Iterables;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Buckets stub mappings by request method and by the literal part of their URL matcher, so that
+ * only stubs which could possibly match a request's method and URL need to be evaluated. Stubs
+ * whose URL matcher has no literal component (regexes, any URL, custom matchers etc.) are kept in
+ * an unindexed bucket that is always consulted.
+ *
+ * <p>Path template stubs are routed via a segment trie where possible, so candidates are resolved
+ * along with their path parameters without evaluating each template's regex.
+ */
+class StubMappingIndex {
+
+  private enum BucketType {
+    URL,
+    PATH,
+    PATH_PREFIX,
+    UNINDEXED
+  }
+
+  private final Comparator<StubMapping> comparator;
+  private final Map<BucketKey, NavigableSet<StubMapping>> buckets = new ConcurrentHashMap<>();
+  private final Map<String, PathTemplateRouter<StubMapping>> routers = new ConcurrentHashMap<>();
+
+  StubMappingIndex(Comparator<StubMapping> comparator) {
+    this.comparator = comparator;
+  }
+
+  void add(StubMapping mapping) {
+    final PathTemplate routablePathTemplate = routablePathTemplateOf(mapping);
+    for (String method : methodKeysFor(mapping)) {
+      if (routablePathTemplate != null) {
+        routers
+            .computeIfAbsent(method, m -> new PathTemplateRouter<>())
+            .add(routablePathTemplate, mapping);
+      } else {
+        buckets
+            .computeIfAbsent(
+                urlKeyFor(method, mapping.getRequest().getUrlMatcher()),
+                k -> new ConcurrentSkipListSet<>(comparator))
+            .add(mapping);
+      }
+    }
+  }
+
+  void remove(StubMapping mapping) {
+    final PathTemplate routablePathTemplate = routablePathTemplateOf(mapping);
+    for (String method : methodKeysFor(mapping)) {
+      if (routablePathTemplate != null) {
+        final PathTemplateRouter<StubMapping> router = routers.get(method);
+        if (router != null) {
+          router.remove(routablePathTemplate, mapping);
+        }
+      } else {
+        final NavigableSet<StubMapping> bucket =
+            buckets.get(urlKeyFor(method, mapping.getRequest().getUrlMatcher()));
+        if (bucket != null) {
+          bucket.remove(mapping);
+        }
+      }
+    }
+  }
+
+  void clear() {
+    buckets.clear();
+    routers.clear();
+  }
+
+  /**
+   * Returns the candidate stubs for the request, each paired with the request it should be matched
+   * against. For routed path template stubs this is the request decorated with the path parameters
+   * extracted during routing.
+   */
+  Stream<Pair<StubMapping, Request>> findCandidates(Request request) {
+    final List<Iterable<Pair<StubMapping, Request>>> candidates = new ArrayList<>();
+    final List<Pair<StubMapping, Request>> routed = new ArrayList<>();
+
+    final String requestMethod = request.getMethod().getName();
+    addCandidates(candidates, routed, requestMethod, request);
+    if (!requestMethod.equals(RequestMethod.ANY.getName())) {
+      addCandidates(candidates, routed, RequestMethod.ANY.getName(), request);
+    }
+
+    final Comparator<Pair<StubMapping, Request>> candidateComparator =
+        (one, two) -> comparator.compare(one.a, two.a);
+    if (!routed.isEmpty()) {
+      routed.sort(candidateComparator);
+      candidates.add(routed);
+    }
+
+    final Iterator<Pair<StubMapping, Request>> merged =
+        candidates.size() == 1
+            ? candidates.get(0).iterator()
+            : Iterables.mergeSorted(candidates, candidateComparator).iterator();
+
+    return StreamSupport.stream(
+        Spliterators.spliteratorUnknownSize(merged, Spliterator.ORDERED | Spliterator.NONNULL),
+        false);
+  }
+
+  private void addCandidates(
+      List<Iterable<Pair<StubMapping, Request>>> candidates,
+      List<Pair<StubMapping, Request>> routed,
+      String method,
+      Request request) {
+    final List<NavigableSet<StubMapping>> candidateBuckets = new ArrayList<>();
+    addCandidateBuckets(candidateBuckets, method, request.getUrl());
+    for (NavigableSet<StubMapping> bucket : candidateBuckets) {
+      candidates.add(Iterables.transform(bucket, stubMapping -> pair(stubMapping, request)));
+    }
+
+    final PathTemplateRouter<StubMapping> router = routers.get(method);
+    if (router != null && request.getUrl() != null) {
+      for (Route<StubMapping> route : router.route(Urls.getPath(request.getUrl()))) {
+        routed.add(
+            pair(
+                route.getValue(),
+                new RequestPathParamsDecorator(
+                    request, route.getPathTemplate(), route.getPathParams())));
+      }
+    }
+  }
+
+  private void addCandidateBuckets(
+      List<NavigableSet<StubMapping>> candidateBuckets, String method, String url) {
+    addIfPresent(candidateBuckets, new BucketKey(method, BucketType.UNINDEXED, null));
+
+    if (url == null) {
+      return;
+    }
+
+    addIfPresent(candidateBuckets, new BucketKey(method, BucketType.URL, url));
+
+    final String path = Urls.getPath(url);
+    addIfPresent(candidateBuckets, new BucketKey(method, BucketType.PATH, path));
+
+    for (int i = path.indexOf('/'); i >= 0; i = path.indexOf('/', i + 1)) {
+      addIfPresent(
+          candidateBuckets,
+          new BucketKey(method, BucketType.PATH_PREFIX, path.substring(0, i + 1)));
+    }
+  }
+
+  private void addIfPresent(List<NavigableSet<StubMapping>> candidateBuckets, BucketKey key) {
+    final NavigableSet<StubMapping> bucket = buckets.get(key);
+    if (bucket != null && !bucket.isEmpty()) {
+      candidateBuckets.add(bucket);
+    }
+  }
+
+  private static List<String> methodKeysFor(StubMapping mapping) {
+    final RequestMethod method = mapping.getRequest().getMethod();
+    return method.equals(GET_OR_HEAD)
+        ? List.of(GET.getName(), HEAD.getName())
+        : List.of(method.getName());
+  }
+
+  private static PathTemplate routablePathTemplateOf(StubMapping mapping) {
+    final UrlPattern urlPattern = mapping.getRequest().getUrlMatcher();
+    if (urlPattern.getClass().equals(UrlPathTemplatePattern.class)
+        && PathTemplateRouter.isRoutable(urlPattern.getPathTemplate())) {
+      return urlPattern.getPathTemplate();
+    }
+
+    return null;
+  }
+
+  private static BucketKey urlKeyFor(String method, UrlPattern urlPattern) {
+    final StringValuePattern pattern = urlPattern.getPattern();
+
+    if (urlPattern.getClass().equals(UrlPathTemplatePattern.class)) {
+      final String prefix = urlPattern.getPathTemplate().staticPrefix();
+      final int lastSlash = prefix.lastIndexOf('/');
+      if (lastSlash >= 0) {
+        return new BucketKey(method, BucketType.PATH_PREFIX, prefix.substring(0, lastSlash + 1));
+      }
+    } else if (isCaseSensitiveEqualTo(pattern)) {
+      if (urlPattern.getClass().equals(UrlPathPattern.class)) {
+        return new BucketKey(method, BucketType.PATH, pattern.getValue());
+      } else if (urlPattern.getClass().equals(UrlPattern.class)) {
+        return new BucketKey(method, BucketType.URL, pattern.getValue());
+      }
+    }
+
+    return new BucketKey(method, BucketType.UNINDEXED, null);
+  }
+
+  private static boolean isCaseSensitiveEqualTo(StringValuePattern pattern) {
+    return pattern.getClass().equals(EqualToPattern.class)
+        && pattern.getValue() != null
+        && !Boolean.TRUE.equals(((EqualToPattern) pattern).getCaseInsensitive());
+  }
+
+  private static class BucketKey {
+    private final String method;
+    private final BucketType type;
+    private final String value;
+
+    BucketKey(String method, BucketType type, String value) {
+      this.method = method;
+      this.type = type;
+      this.value = value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (o == null || getClass() != o.getClass()) return false;
+      BucketKey that = (BucketKey) o;
+      return method.equals(that.method) && type == that.type && Objects.equals(value, that.value);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(method, type, value);
+    }
+  }
+}
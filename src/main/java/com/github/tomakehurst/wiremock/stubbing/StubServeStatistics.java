@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.stubbing;
+
+import static java.util.stream.Collectors.toList;
+
+import com.github.tomakehurst.wiremock.common.LatencyHistogram;
+import com.github.tomakehurst.wiremock.common.Timing;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts how often each stub is served along with histograms of its timings. Unlike the request
+ * journal this holds a fixed amount of state per stub, so it can be left enabled under load.
+ */
+public class StubServeStatistics {
+
+  private final Map<UUID, Counters> countersByStubId = new ConcurrentHashMap<>();
+  private final LongAdder unmatchedCount = new LongAdder();
+
+  public void record(ServeEvent serveEvent) {
+    if (!serveEvent.getWasMatched() || serveEvent.getStubMapping() == null) {
+      unmatchedCount.increment();
+      return;
+    }
+
+    countersByStubId
+        .computeIfAbsent(serveEvent.getStubMapping().getId(), id -> new Counters())
+        .record(serveEvent.getTiming());
+  }
+
+  public void remove(UUID stubMappingId) {
+    countersByStubId.remove(stubMappingId);
+  }
+
+  public void reset() {
+    countersByStubId.clear();
+    unmatchedCount.reset();
+  }
+
+  public long getUnmatchedCount() {
+    return unmatchedCount.sum();
+  }
+
+  public List<StubStatistics> getAll() {
+    return countersByStubId.entrySet().stream()
+        .map(entry -> entry.getValue().snapshot(entry.getKey()))
+        .collect(toList());
+  }
+
+  private static class Counters {
+    private final LongAdder hitCount = new LongAdder();
+    private final LatencyHistogram processTime = new LatencyHistogram();
+    private final LatencyHistogram responseSendTime = new LatencyHistogram();
+    private final LatencyHistogram totalTime = new LatencyHistogram();
+
+    void record(Timing timing) {
+      hitCount.increment();
+      if (timing != null) {
+        processTime.record(timing.getProcessTime());
+        responseSendTime.record(timing.getResponseSendTime());
+        totalTime.record(timing.getTotalTime());
+      }
+    }
+
+    StubStatistics snapshot(UUID stubMappingId) {
+      return new StubStatistics(
+          stubMappingId,
+          hitCount.sum(),
+          processTime.snapshot(),
+          responseSendTime.snapshot(),
+          totalTime.snapshot());
+    }
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.stubbing;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.github.tomakehurst.wiremock.common.LatencyHistogram;
+import java.util.UUID;
+
+public class StubStatistics {
+
+  private final UUID stubMappingId;
+  private final long hitCount;
+  private final LatencyHistogram.Snapshot processTime;
+  private final LatencyHistogram.Snapshot responseSendTime;
+  private final LatencyHistogram.Snapshot totalTime;
+
+  @JsonCreator
+  public StubStatistics(
+      @JsonProperty("stubMappingId") UUID stubMappingId,
+      @JsonProperty("hitCount") long hitCount,
+      @JsonProperty("processTime") LatencyHistogram.Snapshot processTime,
+      @JsonProperty("responseSendTime") LatencyHistogram.Snapshot responseSendTime,
+      @JsonProperty("totalTime") LatencyHistogram.Snapshot totalTime) {
+    this.stubMappingId = stubMappingId;
+    this.hitCount = hitCount;
+    this.processTime = processTime;
+    this.responseSendTime = responseSendTime;
+    this.totalTime = totalTime;
+  }
+
+  public UUID getStubMappingId() {
+    return stubMappingId;
+  }
+
+  public long getHitCount() {
+    return hitCount;
+  }
+
+  public LatencyHistogram.Snapshot getProcessTime() {
+    return processTime;
+  }
+
+  public LatencyHistogram.Snapshot getResponseSendTime() {
+    return responseSendTime;
+  }
+
+  public LatencyHistogram.Snapshot getTotalTime() {
+    return totalTime;
+  }
+}
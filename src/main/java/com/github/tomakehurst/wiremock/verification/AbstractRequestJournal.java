@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2011-2024 Thomas Akehurst
+ * Copyright (C) 2011-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -53,13 +53,18 @@ public abstract class AbstractRequestJournal implements RequestJournal {
 
   @Override
   public int countRequestsMatching(RequestPattern requestPattern) {
-    return (int) getRequests().filter(thatMatch(requestPattern, customMatchers)).count();
+    return (int)
+        getRequestCandidates(requestPattern)
+            .filter(thatMatch(requestPattern, customMatchers))
+            .count();
   }
 
   @Override
   public List<LoggedRequest> getRequestsMatching(RequestPattern requestPattern) {
     List<LoggedRequest> loggedRequests =
-        getRequests().filter(thatMatch(requestPattern, customMatchers)).collect(toList());
+        getRequestCandidates(requestPattern)
+            .filter(thatMatch(requestPattern, customMatchers))
+            .collect(toList());
     Collections.reverse(loggedRequests);
     return loggedRequests;
   }
@@ -82,17 +87,19 @@ public abstract class AbstractRequestJournal implements RequestJournal {
 
   @Override
   public List<ServeEvent> removeEventsMatching(RequestPattern requestPattern) {
-    return removeServeEvents(withRequestMatching(requestPattern, customMatchers));
+    return removeServeEvents(
+        store.findCandidates(requestPattern), withRequestMatching(requestPattern, customMatchers));
   }
 
   @Override
   public List<ServeEvent> removeServeEventsForStubsMatchingMetadata(
       StringValuePattern metadataPattern) {
-    return removeServeEvents(withStubMetadataMatching(metadataPattern));
+    return removeServeEvents(store.getAll(), withStubMetadataMatching(metadataPattern));
   }
 
-  private List<ServeEvent> removeServeEvents(Predicate<ServeEvent> predicate) {
-    List<ServeEvent> toDelete = store.getAll().filter(predicate).collect(toList());
+  private List<ServeEvent> removeServeEvents(
+      Stream<ServeEvent> candidates, Predicate<ServeEvent> predicate) {
+    List<ServeEvent> toDelete = candidates.filter(predicate).collect(toList());
 
     for (ServeEvent event : toDelete) {
       store.remove(event.getId());
@@ -106,6 +113,11 @@ public abstract class AbstractRequestJournal implements RequestJournal {
     return store.getAll().collect(toList());
   }
 
+  @Override
+  public List<ServeEvent> getServeEventsForStubMapping(UUID stubMappingId) {
+    return store.getAllForStubMapping(stubMappingId).collect(toList());
+  }
+
   @Override
   public Optional<ServeEvent> getServeEvent(final UUID id) {
     return store.get(id);
@@ -116,13 +128,13 @@ public abstract class AbstractRequestJournal implements RequestJournal {
     store.clear();
   }
 
-  private Stream<LoggedRequest> getRequests() {
-    return store.getAll().map(ServeEvent::getRequest);
+  private Stream<LoggedRequest> getRequestCandidates(RequestPattern requestPattern) {
+    return store.findCandidates(requestPattern).map(ServeEvent::getRequest);
   }
 
   private void removeOldEntries() {
     if (maxEntries != null) {
-      while (store.getAllKeys().count() > maxEntries) {
+      while (store.size() > maxEntries) {
         store.removeLast();
       }
     }
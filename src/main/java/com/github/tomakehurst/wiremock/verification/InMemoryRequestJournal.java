@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2022-2023 Thomas Akehurst
+ * Copyright (C) 2022-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 package com.github.tomakehurst.wiremock.verification;
 
 import com.github.tomakehurst.wiremock.matching.RequestMatcherExtension;
+import com.github.tomakehurst.wiremock.store.BoundedInMemoryRequestJournalStore;
 import com.github.tomakehurst.wiremock.store.InMemoryRequestJournalStore;
 import java.util.Map;
 
@@ -23,6 +24,11 @@ public class InMemoryRequestJournal extends StoreBackedRequestJournal {
 
   public InMemoryRequestJournal(
       Integer maxEntries, Map<String, RequestMatcherExtension> customMatchers) {
-    super(maxEntries, customMatchers, new InMemoryRequestJournalStore());
+    super(
+        maxEntries,
+        customMatchers,
+        maxEntries != null && maxEntries >= 0
+            ? new BoundedInMemoryRequestJournalStore(maxEntries)
+            : new InMemoryRequestJournalStore());
   }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2011-2024 Thomas Akehurst
+ * Copyright (C) 2011-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -221,6 +221,11 @@ public class LoggedRequest implements Request {
     return headers.getHeader(key);
   }
 
+  @Override
+  public HttpHeader header(CaseInsensitiveKey key) {
+    return headers.getHeader(key);
+  }
+
   @Override
   public ContentTypeHeader contentTypeHeader() {
     if (headers != null) {
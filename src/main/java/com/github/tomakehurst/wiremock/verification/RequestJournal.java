@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2011-2023 Thomas Akehurst
+ * Copyright (C) 2011-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,7 @@ import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 public interface RequestJournal {
 
@@ -30,6 +31,16 @@ public interface RequestJournal {
 
   List<ServeEvent> getAllServeEvents();
 
+  /** Returns the events that were served by the given stub, newest first. */
+  default List<ServeEvent> getServeEventsForStubMapping(UUID stubMappingId) {
+    return getAllServeEvents().stream()
+        .filter(
+            event ->
+                event.getStubMapping() != null
+                    && stubMappingId.equals(event.getStubMapping().getId()))
+        .collect(Collectors.toList());
+  }
+
   Optional<ServeEvent> getServeEvent(UUID id);
 
   void reset();
@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package benchmarks;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.http.ThreadPoolFactory;
+import com.github.tomakehurst.wiremock.jetty.QueuedThreadPoolFactory;
+import com.github.tomakehurst.wiremock.jetty.VirtualThreadPoolFactory;
+import com.github.tomakehurst.wiremock.testsupport.WireMockTestClient;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Serves stubs with a long fixed delay to many more concurrent clients than there are container
+ * threads. The virtual thread pool only shows a difference when run on Java 21 or later.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 2)
+@Fork(1)
+@Measurement(iterations = 5)
+public class DelayedResponseThreadPoolBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class DelayedResponseBenchmarkState {
+
+    @Param({"queued", "virtual"})
+    public String threadPool;
+
+    private WireMockServer wm;
+    private WireMockTestClient client;
+
+    @Setup
+    public void setup() {
+      final ThreadPoolFactory threadPoolFactory =
+          threadPool.equals("virtual")
+              ? new VirtualThreadPoolFactory()
+              : new QueuedThreadPoolFactory();
+      wm =
+          new WireMockServer(
+              wireMockConfig()
+                  .dynamicPort()
+                  .disableRequestJournal()
+                  .containerThreads(25)
+                  .threadPoolFactory(threadPoolFactory));
+      wm.start();
+      client = new WireMockTestClient(wm.port());
+
+      wm.stubFor(get("/slow").willReturn(ok("Slow").withFixedDelay(200)));
+    }
+
+    @TearDown
+    public void tearDown() {
+      wm.stop();
+    }
+  }
+
+  @Benchmark
+  @Threads(200)
+  public boolean delayed(DelayedResponseBenchmarkState state) {
+    return state.client.get("/slow").content().equals("Slow");
+  }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static com.github.tomakehurst.wiremock.common.Gzip.unGzipToString;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static com.github.tomakehurst.wiremock.testsupport.TestHttpHeader.withHeader;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import com.github.tomakehurst.wiremock.core.Options;
+import com.github.tomakehurst.wiremock.store.files.BodyFileCacheStatistics;
+import com.github.tomakehurst.wiremock.testsupport.WireMockResponse;
+import com.github.tomakehurst.wiremock.testsupport.WireMockTestClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BodyFileAcceptanceTest {
+
+  @TempDir Path rootDirectory;
+
+  WireMockServer wm;
+  WireMockTestClient testClient;
+  byte[] largeBody;
+
+  @BeforeEach
+  public void init() throws Exception {
+    largeBody = new byte[5 * 1024 * 1024];
+    new Random(1).nextBytes(largeBody);
+    Files.createDirectories(rootDirectory.resolve("__files"));
+    Files.write(rootDirectory.resolve("__files/large.bin"), largeBody);
+  }
+
+  @Test
+  public void servesALargeBodyFileInChunks() {
+    startWithChunkedEncodingPolicy(Options.ChunkedEncodingPolicy.ALWAYS);
+    wm.stubFor(get("/large").willReturn(ok().withBodyFile("large.bin")));
+
+    WireMockResponse response = testClient.get("/large");
+
+    assertThat(response.statusCode(), is(200));
+    assertThat(response.binaryContent(), is(largeBody));
+    assertThat(response.firstHeader("Transfer-Encoding"), is("chunked"));
+  }
+
+  @Test
+  public void sendsTheFileSizeAsContentLengthWhenChunkedEncodingIsNeverUsed() {
+    startWithChunkedEncodingPolicy(Options.ChunkedEncodingPolicy.NEVER);
+    wm.stubFor(get("/large").willReturn(ok().withBodyFile("large.bin")));
+
+    WireMockResponse response = testClient.get("/large");
+
+    assertThat(response.binaryContent(), is(largeBody));
+    assertThat(response.firstHeader("Content-Length"), is(String.valueOf(largeBody.length)));
+    assertThat(response.firstHeader("Transfer-Encoding"), nullValue());
+  }
+
+  @Test
+  @DisabledOnOs(value = OS.WINDOWS, disabledReason = "Body files aren't mapped on Windows")
+  public void servesALargeBodyFileFromOneKeptMapping() throws Exception {
+    startWithChunkedEncodingPolicy(Options.ChunkedEncodingPolicy.ALWAYS);
+    wm.stubFor(get("/large").willReturn(ok().withBodyFile("large.bin")));
+
+    assertThat(testClient.get("/large").binaryContent(), is(largeBody));
+    assertThat(testClient.get("/large").binaryContent(), is(largeBody));
+    assertThat(wm.getStubStatistics().getBodyFileCache().getMappedFiles(), is(1L));
+
+    byte[] changedBody = Arrays.copyOf(largeBody, largeBody.length / 2);
+    Files.write(rootDirectory.resolve("__files/large.bin"), changedBody);
+
+    assertThat(testClient.get("/large").binaryContent(), is(changedBody));
+    assertThat(wm.getStubStatistics().getBodyFileCache().getMappedFiles(), is(1L));
+  }
+
+  @Test
+  public void servesTheCurrentContentsOfABodyFileAfterItChanges() throws Exception {
+    startWithChunkedEncodingPolicy(Options.ChunkedEncodingPolicy.ALWAYS);
+    wm.stubFor(get("/changing").willReturn(ok().withBodyFile("changing.txt")));
+
+    Files.write(rootDirectory.resolve("__files/changing.txt"), "first version".getBytes());
+    assertThat(testClient.get("/changing").content(), is("first version"));
+
+    Files.write(rootDirectory.resolve("__files/changing.txt"), "second".getBytes());
+    assertThat(testClient.get("/changing").content(), is("second"));
+  }
+
+  @Test
+  public void reportsBodyFileCacheCountsWithTheStubStatistics() throws Exception {
+    startWithChunkedEncodingPolicy(Options.ChunkedEncodingPolicy.ALWAYS);
+    Files.write(rootDirectory.resolve("__files/small.txt"), "small body".getBytes());
+    wm.stubFor(get("/small").willReturn(ok().withBodyFile("small.txt")));
+
+    testClient.get("/small");
+    testClient.get("/small");
+
+    BodyFileCacheStatistics statistics = wm.getStubStatistics().getBodyFileCache();
+    assertThat(statistics.getHitCount(), is(1L));
+    assertThat(statistics.getMissCount(), is(1L));
+    assertThat(statistics.getBytes(), is(10L));
+  }
+
+  @Test
+  public void servesACachedBodyFileGzipped() throws Exception {
+    startWithChunkedEncodingPolicy(Options.ChunkedEncodingPolicy.ALWAYS);
+    String json = "{\"values\": [" + "1,".repeat(500) + "2]}";
+    Files.write(rootDirectory.resolve("__files/data.json"), json.getBytes());
+    wm.stubFor(
+        get("/data")
+            .willReturn(
+                ok().withHeader("Content-Type", "application/json").withBodyFile("data.json")));
+
+    for (int i = 0; i < 2; i++) {
+      WireMockResponse response = testClient.get("/data", withHeader("Accept-Encoding", "gzip"));
+      assertThat(response.firstHeader("Content-Encoding"), is("gzip"));
+      assertThat(unGzipToString(response.binaryContent()), is(json));
+    }
+    assertThat(wm.getStubStatistics().getBodyFileCache().getHitCount(), is(1L));
+  }
+
+  @Test
+  public void returnsNotFoundWhenTheBodyFileIsMissing() {
+    startWithChunkedEncodingPolicy(Options.ChunkedEncodingPolicy.ALWAYS);
+    wm.stubFor(get("/missing").willReturn(ok().withBodyFile("missing.bin")));
+
+    assertThat(testClient.get("/missing").statusCode(), is(500));
+  }
+
+  private void startWithChunkedEncodingPolicy(Options.ChunkedEncodingPolicy chunkedEncodingPolicy) {
+    wm =
+        new WireMockServer(
+            wireMockConfig()
+                .dynamicPort()
+                .withRootDirectory(rootDirectory.toString())
+                .useChunkedTransferEncoding(chunkedEncodingPolicy));
+    wm.start();
+
+    testClient = new WireMockTestClient(wm.port());
+  }
+
+  @AfterEach
+  public void cleanup() {
+    wm.stop();
+  }
+}
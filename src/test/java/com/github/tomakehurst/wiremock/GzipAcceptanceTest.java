@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2015-2024 Thomas Akehurst
+ * Copyright (C) 2015-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -79,6 +79,40 @@ public class GzipAcceptanceTest {
       assertThat(plainText, is("body text"));
     }
 
+    @Test
+    public void servesAStubsBodyGzippedOnEveryRequest() {
+      String bodyText = jsonBodyText();
+      wireMockServer.stubFor(get("/json").willReturn(okJson(bodyText)));
+
+      for (int i = 0; i < 3; i++) {
+        WireMockResponse response = testClient.get("/json", withHeader("Accept-Encoding", "gzip"));
+        assertThat(response.firstHeader("Content-Encoding"), is("gzip"));
+        assertThat(unGzipToString(response.binaryContent()), is(bodyText));
+      }
+    }
+
+    @Test
+    public void servesAStubsBodyUncompressedWhenGzipIsNotAccepted() {
+      String bodyText = jsonBodyText();
+      wireMockServer.stubFor(get("/json").willReturn(okJson(bodyText)));
+
+      WireMockResponse response = testClient.get("/json");
+
+      assertThat(response.headers().containsKey("Content-Encoding"), is(false));
+      assertThat(response.content(), is(bodyText));
+    }
+
+    @Test
+    public void doesNotGzipAStubsBodyWhenTheStubDisablesIt() {
+      String bodyText = jsonBodyText();
+      wireMockServer.stubFor(get("/json").willReturn(okJson(bodyText).withGzipDisabled(true)));
+
+      WireMockResponse response = testClient.get("/json", withHeader("Accept-Encoding", "gzip"));
+
+      assertThat(response.firstHeader("Content-Encoding"), is("none"));
+      assertThat(response.content(), is(bodyText));
+    }
+
     @Test
     public void acceptsGzippedRequest() {
       wireMockServer.stubFor(
@@ -94,6 +128,10 @@ public class GzipAcceptanceTest {
     }
   }
 
+  private static String jsonBodyText() {
+    return "{\"items\": [" + "\"item\",".repeat(200) + "\"last\"]}";
+  }
+
   @Nested
   class NoChunkedTransferEncoding {
 
@@ -132,6 +170,19 @@ public class GzipAcceptanceTest {
       assertThat(plainText, is(bodyText));
     }
 
+    @Test
+    public void returnsTheLengthOfAGzippedStubBody() {
+      String bodyText = jsonBodyText();
+      wm.stubFor(get("/json").willReturn(okJson(bodyText)));
+
+      WireMockResponse response = testClient.get("/json", withHeader("Accept-Encoding", "gzip"));
+
+      assertThat(response.firstHeader("Content-Encoding"), is("gzip"));
+      assertThat(response.headers().containsKey("Transfer-Encoding"), is(false));
+      assertThat(response.firstHeader("Content-Length"), is(String.valueOf(gzip(bodyText).length)));
+      assertThat(unGzipToString(response.binaryContent()), is(bodyText));
+    }
+
     private boolean isNotOldJettyVersion() {
       return !Jetty.VERSION.contains("9.2.");
     }
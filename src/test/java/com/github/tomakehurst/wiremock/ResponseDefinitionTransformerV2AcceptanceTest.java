@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2014-2024 Thomas Akehurst
+ * Copyright (C) 2014-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -127,6 +127,21 @@ public class ResponseDefinitionTransformerV2AcceptanceTest {
     assertThat(response.content(), is("Non-global transformed body"));
   }
 
+  @Test
+  public void appliesNonGlobalExtensionsEnabledByAnEarlierTransformer() {
+    wm =
+        new WireMockServer(
+            wireMockConfig()
+                .dynamicPort()
+                .extensions(new LocalEnablingTransformer(), new NonGlobalTransformer()));
+    wm.start();
+    client = new WireMockTestClient(wm.port());
+    createStub("/enabled-local-transform");
+
+    WireMockResponse response = client.get("/enabled-local-transform");
+    assertThat(response.content(), is("Non-global transformed body"));
+  }
+
   @Test
   @SuppressWarnings("unchecked")
   public void preventsMoreThanOneExtensionWithTheSameNameFromBeingAdded() {
@@ -283,6 +298,22 @@ public class ResponseDefinitionTransformerV2AcceptanceTest {
     }
   }
 
+  public static class LocalEnablingTransformer implements ResponseDefinitionTransformerV2 {
+
+    @Override
+    public ResponseDefinition transform(ServeEvent serveEvent) {
+      return ResponseDefinitionBuilder.like(serveEvent.getResponseDefinition())
+          .but()
+          .withTransformers("local")
+          .build();
+    }
+
+    @Override
+    public String getName() {
+      return "local-enabling";
+    }
+  }
+
   public static class AnotherExampleTransformer implements ResponseDefinitionTransformerV2 {
 
     @Override
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2017-2023 Thomas Akehurst
+ * Copyright (C) 2017-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@ package com.github.tomakehurst.wiremock;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.awaitility.Awaitility.await;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThan;
@@ -24,6 +25,7 @@ import static org.hamcrest.Matchers.greaterThan;
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
 import com.github.tomakehurst.wiremock.http.HttpClientFactory;
 import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import com.google.common.base.Stopwatch;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -33,8 +35,11 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
 import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
@@ -43,8 +48,13 @@ public class ResponseDelayAsynchronousAcceptanceTest {
   private static final int SOCKET_TIMEOUT_MILLISECONDS = 500;
   private static final int SHORTER_THAN_SOCKET_TIMEOUT = SOCKET_TIMEOUT_MILLISECONDS / 2;
 
+  private static final int DRIBBLED_REQUESTS = 40;
+
   private ExecutorService httpClientExecutor = Executors.newCachedThreadPool();
 
+  private final CloseableHttpClient dribbleClient =
+      HttpClientFactory.createClient(DRIBBLED_REQUESTS + 1, 5000);
+
   @RegisterExtension
   public WireMockExtension wireMockRule =
       WireMockExtension.newInstance().configureStaticDsl(true).options(getOptions()).build();
@@ -58,6 +68,11 @@ public class ResponseDelayAsynchronousAcceptanceTest {
     return wireMockConfiguration;
   }
 
+  @AfterEach
+  public void closeClient() throws IOException {
+    dribbleClient.close();
+  }
+
   @Test
   public void addsFixedDelayAsynchronously() throws Exception {
     stubFor(get("/delayed").willReturn(ok().withFixedDelay(SHORTER_THAN_SOCKET_TIMEOUT)));
@@ -86,6 +101,49 @@ public class ResponseDelayAsynchronousAcceptanceTest {
     }
   }
 
+  @Test
+  public void dribblesMoreResponsesConcurrentlyThanThereAreContainerThreads() throws Exception {
+    final String body = "Send this in many pieces please!!!";
+    stubFor(get("/dribbled").willReturn(ok(body).withChunkedDribbleDelay(4, 4000)));
+    stubFor(get("/not-dribbled").willReturn(ok("Not dribbled")));
+
+    List<Future<String>> responses = new ArrayList<>();
+    for (int i = 0; i < DRIBBLED_REQUESTS; i++) {
+      responses.add(httpClientExecutor.submit(() -> getBody("/dribbled")));
+    }
+    await()
+        .until(
+            () -> wireMockRule.findAll(getRequestedFor(urlEqualTo("/dribbled"))).size(),
+            is(DRIBBLED_REQUESTS));
+
+    // Had each dribbled response held one of the 8 container threads, none would be left for this
+    assertThat(getBody("/not-dribbled"), is("Not dribbled"));
+    assertThat(responses.stream().noneMatch(Future::isDone), is(true));
+
+    for (Future<String> response : responses) {
+      assertThat(response.get(), is(body));
+    }
+  }
+
+  @Test
+  public void dribblesResponseAfterAsynchronousDelay() throws Exception {
+    stubFor(
+        get("/delayed-dribble")
+            .willReturn(
+                ok("Send this in pieces").withFixedDelay(100).withChunkedDribbleDelay(2, 200)));
+
+    assertThat(getBody("/delayed-dribble"), is("Send this in pieces"));
+    ServeEvent serveEvent = wireMockRule.getAllServeEvents().get(0);
+    assertThat(serveEvent.getTiming().getAddedDelay(), is(100));
+  }
+
+  private String getBody(String path) throws Exception {
+    try (CloseableHttpResponse response =
+        dribbleClient.execute(new HttpGet(wireMockRule.url(path)))) {
+      return EntityUtils.toString(response.getEntity());
+    }
+  }
+
   private List<Callable<TimedHttpResponse>> getHttpRequestCallables(int requestCount)
       throws IOException {
     List<Callable<TimedHttpResponse>> requests = new ArrayList<>();
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2023 Thomas Akehurst
+ * Copyright (C) 2023-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -27,12 +27,15 @@ import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import com.github.tomakehurst.wiremock.testsupport.WireMockResponse;
 import com.github.tomakehurst.wiremock.testsupport.WireMockTestClient;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
 public class TemplateModelDataProviderExtensionTest {
 
+  static final AtomicInteger providerCalls = new AtomicInteger();
+
   @RegisterExtension
   public WireMockExtension wm =
       WireMockExtension.newInstance()
@@ -45,8 +48,17 @@ public class TemplateModelDataProviderExtensionTest {
                       new TemplateModelDataProviderExtension() {
                         @Override
                         public Map<String, Object> provideTemplateModelData(ServeEvent serveEvent) {
+                          providerCalls.incrementAndGet();
                           return Map.of(
-                              "customData", Map.of("path", serveEvent.getRequest().getUrl()));
+                              "customData",
+                              Map.of("path", serveEvent.getRequest().getUrl()),
+                              "parameters",
+                              Map.of("source", "provider"));
+                        }
+
+                        @Override
+                        public boolean providesRoot(String name) {
+                          return name.equals("customData") || name.equals("parameters");
                         }
 
                         @Override
@@ -61,6 +73,7 @@ public class TemplateModelDataProviderExtensionTest {
   @BeforeEach
   void init() {
     client = new WireMockTestClient(wm.getPort());
+    providerCalls.set(0);
   }
 
   @Test
@@ -71,4 +84,35 @@ public class TemplateModelDataProviderExtensionTest {
 
     assertThat(response.content(), is("/things"));
   }
+
+  @Test
+  void onlyCallsProvidersWhenATemplateUsesDataTheyMightProvide() {
+    wm.stubFor(get("/things").willReturn(ok("{{ randomValue length=4 type='NUMERIC' }}")));
+    wm.stubFor(get("/other-things").willReturn(ok("{{{ customData.path }}}")));
+
+    assertThat(client.get("/things").content().length(), is(4));
+    assertThat(providerCalls.get(), is(0));
+
+    assertThat(client.get("/other-things").content(), is("/other-things"));
+    assertThat(providerCalls.get(), is(1));
+  }
+
+  @Test
+  void doesNotCallProvidersForRootsTheyDoNotProvide() {
+    wm.stubFor(get("/things").willReturn(ok("{{ request.path.0 }}")));
+
+    assertThat(client.get("/things").content(), is("things"));
+    assertThat(providerCalls.get(), is(0));
+  }
+
+  @Test
+  void providedDataOverridesTheBuiltInParametersAndRequestRoots() {
+    wm.stubFor(
+        get("/things")
+            .willReturn(
+                ok("{{ parameters.source }} {{ request.path.0 }}")
+                    .withTransformerParameter("source", "stub")));
+
+    assertThat(client.get("/things").content(), is("provider things"));
+  }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2011-2024 Thomas Akehurst
+ * Copyright (C) 2011-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -43,6 +43,8 @@ import com.github.tomakehurst.wiremock.matching.MatchResult;
 import com.github.tomakehurst.wiremock.matching.RequestMatcher;
 import com.github.tomakehurst.wiremock.matching.RequestMatcherExtension;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import com.github.tomakehurst.wiremock.stubbing.StubStatistics;
 import com.github.tomakehurst.wiremock.testsupport.WireMockTestClient;
 import com.github.tomakehurst.wiremock.verification.LoggedRequest;
 import com.github.tomakehurst.wiremock.verification.RequestJournalDisabledException;
@@ -1034,6 +1036,22 @@ public class VerificationAcceptanceTest {
           RequestJournalDisabledException.class,
           () -> findAll(getRequestedFor(urlEqualTo("/whatever"))));
     }
+
+    @Test
+    void collectsStubStatisticsWhenRequestJournalDisabled() {
+      StubMapping stub = stubFor(get(urlEqualTo("/counted")).willReturn(ok()));
+      WireMockTestClient testClient = new WireMockTestClient(wireMockRule.getPort());
+      testClient.get("/counted");
+      testClient.get("/counted");
+      testClient.get("/not-stubbed");
+
+      List<StubStatistics> statistics = getAllStubStatistics();
+      assertThat(statistics.size(), is(1));
+      assertThat(statistics.get(0).getStubMappingId(), is(stub.getId()));
+      assertThat(statistics.get(0).getHitCount(), is(2L));
+      assertThat(statistics.get(0).getTotalTime().getCount(), is(2L));
+      assertThat(wireMockRule.getStubStatistics().getUnmatchedCount(), is(1L));
+    }
   }
 
   @Nested
@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.github.tomakehurst.wiremock.jetty.VirtualThreadPoolFactory;
+import org.eclipse.jetty.util.VirtualThreads;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class VirtualThreadPoolAcceptanceTest extends AcceptanceTestBase {
+
+  @BeforeAll
+  public static void setupServer() {
+    setupServer(new WireMockConfiguration().threadPoolFactory(new VirtualThreadPoolFactory()));
+  }
+
+  @Test
+  public void usesVirtualThreadsWhereTheJvmSupportsThem() {
+    QueuedThreadPool threadPool =
+        (QueuedThreadPool)
+            new VirtualThreadPoolFactory().buildThreadPool(new WireMockConfiguration());
+
+    assertThat(threadPool.getMaxThreads(), is(new WireMockConfiguration().containerThreads()));
+    assertThat(VirtualThreads.isUseVirtualThreads(threadPool), is(VirtualThreads.areSupported()));
+  }
+
+  @Test
+  public void servesDelayedResponses() {
+    stubFor(get("/delayed").willReturn(ok("Done").withFixedDelay(50)));
+
+    assertThat(testClient.get("/delayed").content(), is("Done"));
+  }
+}
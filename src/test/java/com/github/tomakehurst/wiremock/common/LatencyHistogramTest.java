@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.common;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+  @Test
+  void reportsExactPercentilesForSmallValues() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 1; i <= 10; i++) {
+      histogram.record(i);
+    }
+
+    LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+    assertThat(snapshot.getCount(), is(10L));
+    assertThat(snapshot.getMean(), is(5.5));
+    assertThat(snapshot.getP50(), is(5L));
+    assertThat(snapshot.getP90(), is(9L));
+    assertThat(snapshot.getP99(), is(10L));
+    assertThat(snapshot.getMax(), is(10L));
+  }
+
+  @Test
+  void reportsLargeValuesWithinOneEighthOfTheirMagnitude() {
+    for (int value : new int[] {16, 100, 1_000, 12_345, 1_000_000, Integer.MAX_VALUE}) {
+      int bucket = LatencyHistogram.bucketOf(value);
+      long highest = LatencyHistogram.highestValueIn(bucket);
+
+      assertThat((long) value, lessThanOrEqualTo(highest));
+      assertThat(highest - value, lessThanOrEqualTo((long) value / 8));
+    }
+  }
+
+  @Test
+  void ignoresMissingTimings() {
+    LatencyHistogram histogram = new LatencyHistogram();
+
+    histogram.record(null);
+
+    assertThat(histogram.snapshot().getCount(), is(0L));
+    assertThat(histogram.snapshot().getP99(), is(0L));
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.common;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RequestBodyViewsTest {
+
+  @BeforeEach
+  void startRequest() {
+    RequestCache.onRequestStart();
+  }
+
+  @AfterEach
+  void endRequest() {
+    RequestCache.onRequestEnd();
+  }
+
+  @Test
+  void parsesEachBodyOnlyOncePerRequest() {
+    String body = "{\"id\": 1}";
+
+    JsonNode first = RequestBodyViews.json(body);
+
+    assertThat(RequestBodyViews.json(new String(body)), sameInstance(first));
+    assertThat(
+        RequestBodyViews.jsonPathDocument(body),
+        sameInstance(RequestBodyViews.jsonPathDocument(body)));
+    assertThat(
+        RequestBodyViews.xmlDocument("<a/>"), sameInstance(RequestBodyViews.xmlDocument("<a/>")));
+
+    RequestCache.onRequestEnd();
+    RequestCache.onRequestStart();
+
+    assertThat(RequestBodyViews.json(body), not(sameInstance(first)));
+    assertThat(RequestBodyViews.json(body).get("id").asInt(), is(1));
+  }
+
+  @Test
+  void doesNotRetainViewsOutsideARequest() {
+    RequestCache.onRequestEnd();
+    String body = "{\"id\": 1}";
+
+    JsonNode first = RequestBodyViews.json(body);
+
+    assertThat(RequestBodyViews.json(body), not(sameInstance(first)));
+    assertThat(RequestCache.isActive(), is(false));
+  }
+
+  @Test
+  void rethrowsTheSameFailureForUnparseableBodies() {
+    JsonException first = assertThrows(JsonException.class, () -> RequestBodyViews.json("{"));
+    JsonException second = assertThrows(JsonException.class, () -> RequestBodyViews.json("{"));
+
+    assertThat(second, sameInstance(first));
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.common.url;
+
+import static java.util.stream.Collectors.toMap;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class PathTemplateRouterTest {
+
+  private static final List<String> TEMPLATES =
+      List.of(
+          "/things/{id}",
+          "/things/special",
+          "/things/{id}/otherthings/{subId}",
+          "/things/{thingId}/otherthings/latest",
+          "/files/**",
+          "/files/{dir}/**",
+          "/",
+          "/things/{id}/");
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "/things/11-22-33",
+        "/things/special",
+        "/things/",
+        "/things",
+        "/things/1/otherthings/2",
+        "/things/1/otherthings/latest",
+        "/things/1/otherthings/",
+        "/files",
+        "/files/",
+        "/files/a",
+        "/files/a/b/c.txt",
+        "/",
+        "",
+        "/things/1/",
+        "/unknown/path"
+      })
+  public void routesToTheSameTemplatesAndParametersAsRegexMatching(String path) {
+    PathTemplateRouter<String> router = new PathTemplateRouter<>();
+    TEMPLATES.forEach(template -> router.add(new PathTemplate(template), template));
+
+    Map<String, PathParams> expected =
+        TEMPLATES.stream()
+            .map(PathTemplate::new)
+            .filter(template -> template.matches(path))
+            .collect(toMap(PathTemplate::toString, template -> template.parse(path)));
+
+    Map<String, PathParams> actual =
+        router.route(path).stream()
+            .collect(
+                Collectors.toMap(
+                    PathTemplateRouter.Route::getValue, route -> route.getPathParams()));
+
+    assertThat(actual, is(expected));
+  }
+
+  @Test
+  public void doesNotRouteRemovedValues() {
+    PathTemplateRouter<String> router = new PathTemplateRouter<>();
+    PathTemplate template = new PathTemplate("/things/{id}");
+    router.add(template, "one");
+    router.add(template, "two");
+
+    router.remove(template, "one");
+
+    assertThat(
+        router.route("/things/1").stream()
+            .map(PathTemplateRouter.Route::getValue)
+            .collect(Collectors.toList()),
+        is(List.of("two")));
+
+    router.clear();
+    assertThat(
+        router.route("/things/1").stream()
+            .collect(toMap(PathTemplateRouter.Route::getValue, Function.identity())),
+        is(anEmptyMap()));
+  }
+
+  @Test
+  public void onlyRoutesTemplatesMadeOfWholeSegments() {
+    assertThat(PathTemplateRouter.isRoutable(new PathTemplate("/things/{id}/**")), is(true));
+    assertThat(PathTemplateRouter.isRoutable(new PathTemplate("/things/{id}.json")), is(false));
+    assertThat(PathTemplateRouter.isRoutable(new PathTemplate("/things/**/other")), is(false));
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new PathTemplateRouter<String>().add(new PathTemplate("/{a}-{b}"), "value"));
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2020-2025 Thomas Akehurst
+ * Copyright (C) 2020-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,7 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 
 import com.github.tomakehurst.wiremock.common.ListOrSingle;
+import java.util.Map;
 import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.DisabledForJreRange;
@@ -67,6 +68,19 @@ public class XmlTest {
     assertThat(nodes.get(0).getAttributes().get("fl:group"), is("555"));
   }
 
+  @Test
+  public void reusesCompiledXPathExpressionsOnlyForTheSameNamespaces() {
+    XmlDocument xmlDocument =
+        Xml.parse("<things xmlns:a=\"https://a.biz\"><a:thing>1</a:thing></things>");
+
+    assertThat(
+        xmlDocument.findNodes("//x:thing/text()", Map.of("x", "https://a.biz")).size(), is(1));
+    assertThat(
+        xmlDocument.findNodes("//x:thing/text()", Map.of("x", "https://a.biz")).size(), is(1));
+    assertThat(
+        xmlDocument.findNodes("//x:thing/text()", Map.of("x", "https://b.biz")).size(), is(0));
+  }
+
   @Test
   public void prettyPrintsDocument() {
     String xml = "<one><two><three name='3'/></two></one>";
@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.extension;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class TransformerChainTest {
+
+  static class NamedTransformer implements ResponseDefinitionTransformerV2 {
+    private final String name;
+    private final boolean global;
+
+    NamedTransformer(String name, boolean global) {
+      this.name = name;
+      this.global = global;
+    }
+
+    @Override
+    public ResponseDefinition transform(ServeEvent serveEvent) {
+      return serveEvent.getResponseDefinition();
+    }
+
+    @Override
+    public boolean applyGlobally() {
+      return global;
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+  }
+
+  NamedTransformer first = new NamedTransformer("first", false);
+  NamedTransformer global = new NamedTransformer("global", true);
+  NamedTransformer last = new NamedTransformer("last", false);
+  TransformerTimings timings = new TransformerTimings();
+  TransformerChain<ResponseDefinitionTransformerV2> chain =
+      new TransformerChain<>(
+          List.of(first, global, last), ResponseDefinitionTransformerV2::applyGlobally, timings);
+
+  @Test
+  void resolvesTheNamedAndGlobalTransformersInRegistrationOrder() {
+    ResponseDefinition definition = ok().withTransformers("last", "first").build();
+
+    assertThat(chain.resolve(definition), contains(first, global, last));
+    assertThat(chain.resolve(ok().build()), contains(global));
+  }
+
+  @Test
+  void reusesTheChainForDefinitionsNamingTheSameTransformers() {
+    List<ResponseDefinitionTransformerV2> resolved =
+        chain.resolve(ok().withTransformers("first").build());
+
+    assertThat(chain.resolve(ok().withTransformers("first").build()), sameInstance(resolved));
+  }
+
+  @Test
+  void resolvesOnlyTheTransformersAfterOneThatChangedTheNames() {
+    ResponseDefinition changed = ok().withTransformers("first", "last").build();
+
+    assertThat(chain.resolveAfter(first, changed), contains(global, last));
+    assertThat(chain.resolveAfter(global, changed), contains(last));
+    assertThat(chain.resolveAfter(last, changed), is(empty()));
+  }
+
+  @Test
+  void recordsHowLongEachTransformerTakes() {
+    assertThat(timings.getAll(), is(empty()));
+
+    String result = chain.time(first, () -> "done");
+    chain.time(first, () -> "again");
+    chain.time(last, () -> "done");
+
+    assertThat(result, is("done"));
+    List<TransformerStatistics> statistics = timings.getAll();
+    assertThat(statistics.get(0).getName(), is("first"));
+    assertThat(statistics.get(0).getTransformTimeMicros().getCount(), is(2L));
+    assertThat(statistics.get(1).getName(), is("last"));
+    assertThat(statistics.get(1).getTransformTimeMicros().getCount(), is(1L));
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2024 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -806,15 +806,49 @@ public class ResponseTemplateTransformerTest {
   }
 
   @Test
-  public void clearsTemplateCacheWhenAnyStubRemovedReset() {
-    transform("{{now}}");
-    assertThat(transformer.getCacheSize(), greaterThan(0L));
+  public void clearsOnlyTheRemovedStubsTemplatesFromTheCache() {
+    final StubMapping removed = get("/one").willReturn(aResponse().withBody("{{now}} 1")).build();
+    final StubMapping kept = get("/two").willReturn(aResponse().withBody("{{now}} 2")).build();
+    transform(removed);
+    transform(kept);
+    assertThat(transformer.getCacheSize(), is(2L));
+
+    transformer.afterStubRemoved(removed);
+
+    assertThat(transformer.getCacheSize(), is(1L));
+    transform(kept);
+    assertThat(transformer.getCacheStatistics().getHitCount(), is(1L));
+  }
+
+  @Test
+  public void clearsTheOldVersionOfAnEditedStubFromTheCache() {
+    final StubMapping oldStub = get("/one").willReturn(aResponse().withBody("{{now}} 1")).build();
+    transform(oldStub);
+    assertThat(transformer.getCacheSize(), is(1L));
 
-    transformer.afterStubRemoved(get(anyUrl()).build());
+    final StubMapping newStub = get("/one").willReturn(aResponse().withBody("{{now}} 2")).build();
+    newStub.setId(oldStub.getId());
+    transformer.afterStubEdited(oldStub, newStub);
 
     assertThat(transformer.getCacheSize(), is(0L));
   }
 
+  @Test
+  public void reportsTemplateCacheHitsMissesAndEvictions() {
+    transformer = ExtensionFactoryUtils.buildTemplateTransformer(1L);
+
+    final StubMapping stub = get("/one").willReturn(aResponse().withBody("{{now}} 1")).build();
+    transform(stub);
+    transform(stub);
+    transform("{{now}} 2");
+
+    final TemplateCacheStatistics statistics = transformer.getCacheStatistics();
+    assertThat(statistics.getSize(), is(1L));
+    assertThat(statistics.getHitCount(), is(1L));
+    assertThat(statistics.getMissCount(), is(2L));
+    assertThat(statistics.getEvictionCount(), is(1L));
+  }
+
   @Test
   public void honoursCacheSizeLimit() {
     transformer = ExtensionFactoryUtils.buildTemplateTransformer(3L);
@@ -1328,6 +1362,12 @@ public class ResponseTemplateTransformerTest {
     return transform(newPostMatchServeEvent(request, responseDefinitionBuilder, stub));
   }
 
+  private ResponseDefinition transform(StubMapping stub) {
+    return transform(
+        newPostMatchServeEvent(
+            mockRequest(), ResponseDefinitionBuilder.like(stub.getResponse()), stub));
+  }
+
   private ResponseDefinition transform(ServeEvent serveEvent) {
     return transformer.transform(serveEvent);
   }
@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.extension.responsetemplating;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import com.github.jknack.handlebars.Handlebars;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class Utf8BufferWriterTest {
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "plain ascii",
+        "café €5",
+        "emoji 😀 pair",
+        "unpaired high \ud83d then text",
+        "unpaired low \ude00",
+        "trailing high \ud83d"
+      })
+  void encodesTheSameWayAsString(String text) throws Exception {
+    Utf8BufferWriter writer = Utf8BufferWriter.acquire();
+    writer.write(text.substring(0, text.length() / 2));
+    writer.write(text.substring(text.length() / 2));
+
+    assertThat(writer.toByteArray(), is(text.getBytes(UTF_8)));
+    writer.release();
+  }
+
+  @Test
+  void hasOneWriterPerThreadButHandsOutAnotherWhileItIsInUse() {
+    Utf8BufferWriter first = Utf8BufferWriter.acquire();
+    Utf8BufferWriter nested = Utf8BufferWriter.acquire();
+    assertThat(nested, not(sameInstance(first)));
+    nested.release();
+    first.release();
+
+    assertThat(Utf8BufferWriter.acquire(), sameInstance(first));
+  }
+
+  @Test
+  void templateRenderedAsBytesMatchesTheEncodedString() {
+    HandlebarsOptimizedTemplate template =
+        new HandlebarsOptimizedTemplate(
+            new Handlebars(), "{\"greeting\": \"{{greeting}}\", \"to\": \"{{name}}\"} é");
+    Map<String, Object> model = Map.of("greeting", "¡hola", "name", "😀");
+
+    assertThat(template.applyAsBytes(model), is(template.apply(model).getBytes(UTF_8)));
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2015-2024 Thomas Akehurst
+ * Copyright (C) 2015-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,10 +21,12 @@ import static com.github.tomakehurst.wiremock.common.Strings.stringFromBytes;
 import static org.assertj.core.api.Assertions.*;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.IntNode;
+import com.github.tomakehurst.wiremock.common.Gzip;
 import com.github.tomakehurst.wiremock.common.Json;
 import com.github.tomakehurst.wiremock.common.JsonException;
 import java.nio.charset.StandardCharsets;
@@ -133,4 +135,14 @@ class BodyTest {
 
     assertEquals(body.hashCode(), body2.hashCode());
   }
+
+  @Test
+  void gzipsContentOnlyOnce() {
+    Body body = new Body("some text to compress");
+
+    byte[] gzipped = body.asGzippedBytes();
+
+    assertThat(body.asGzippedBytes(), sameInstance(gzipped));
+    assertThat(Gzip.unGzipToString(gzipped), is("some text to compress"));
+  }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2017-2024 Thomas Akehurst
+ * Copyright (C) 2017-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,11 +15,14 @@
  */
 package com.github.tomakehurst.wiremock.http;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
 import static com.github.tomakehurst.wiremock.matching.MockRequest.mockRequest;
 import static com.github.tomakehurst.wiremock.stubbing.ServeEventFactory.newPostMatchServeEvent;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 
+import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.extension.ResponseTransformer;
 import com.github.tomakehurst.wiremock.extension.ResponseTransformerV2;
 import com.github.tomakehurst.wiremock.global.GlobalSettings;
@@ -27,6 +30,7 @@ import com.github.tomakehurst.wiremock.store.BlobStore;
 import com.github.tomakehurst.wiremock.store.InMemorySettingsStore;
 import com.github.tomakehurst.wiremock.store.SettingsStore;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
 import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -109,6 +113,32 @@ public class StubResponseRendererTest {
     assertThat(response.getInitialDelay(), is(2123L));
   }
 
+  @Test
+  public void addsTheMatchedStubHeadersToEveryResponseFromTheStub() {
+    StubMapping stubMapping =
+        WireMock.get("/things").willReturn(ok().withHeader("X-Thing", "1")).build();
+    stubMapping.setName("Things");
+    ServeEvent serveEvent =
+        newPostMatchServeEvent(mockRequest(), stubMapping.getResponse(), stubMapping);
+
+    HttpHeaders first = stubResponseRenderer.render(serveEvent).getHeaders();
+    HttpHeaders second = stubResponseRenderer.render(serveEvent).getHeaders();
+
+    assertThat(first.getHeader("X-Thing").firstValue(), is("1"));
+    assertThat(first.getHeader("Matched-Stub-Id").firstValue(), is(stubMapping.getId().toString()));
+    assertThat(first.getHeader("Matched-Stub-Name").firstValue(), is("Things"));
+    assertThat(second, sameInstance(first));
+
+    stubMapping.setName("Renamed");
+    assertThat(
+        stubResponseRenderer
+            .render(serveEvent)
+            .getHeaders()
+            .getHeader("Matched-Stub-Name")
+            .firstValue(),
+        is("Renamed"));
+  }
+
   private ServeEvent createServeEvent(Integer fixedDelayMillis) {
     return newPostMatchServeEvent(
         mockRequest(),
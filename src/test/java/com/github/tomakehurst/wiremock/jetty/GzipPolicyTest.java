@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.jetty;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Test;
+
+public class GzipPolicyTest {
+
+  GzipPolicy policy =
+      new GzipPolicy(
+          new String[] {"GET", "POST"},
+          new String[] {"POST"},
+          mimeType -> !mimeType.startsWith("image/"),
+          32);
+
+  @Test
+  public void onlyCompressesIncludedMethodsThatAreNotExcluded() {
+    assertThat(policy.isMethodCompressible("GET"), is(true));
+    assertThat(policy.isMethodCompressible("POST"), is(false));
+    assertThat(policy.isMethodCompressible("PUT"), is(false));
+  }
+
+  @Test
+  public void compressesAnyMethodThatIsNotExcludedWhenNoneAreIncluded() {
+    GzipPolicy anyMethod =
+        new GzipPolicy(new String[0], new String[] {"HEAD"}, mimeType -> true, 32);
+
+    assertThat(anyMethod.isMethodCompressible("PATCH"), is(true));
+    assertThat(anyMethod.isMethodCompressible("HEAD"), is(false));
+  }
+
+  @Test
+  public void delegatesMimeTypeDecisions() {
+    assertThat(policy.isMimeTypeCompressible("application/json"), is(true));
+    assertThat(policy.isMimeTypeCompressible("image/png"), is(false));
+  }
+
+  @Test
+  public void onlyCompressesSuccessfulResponsesWithContent() {
+    assertThat(GzipPolicy.isStatusCompressible(200), is(true));
+    assertThat(GzipPolicy.isStatusCompressible(201), is(true));
+    assertThat(GzipPolicy.isStatusCompressible(204), is(false));
+    assertThat(GzipPolicy.isStatusCompressible(304), is(false));
+    assertThat(GzipPolicy.isStatusCompressible(404), is(false));
+  }
+
+  @Test
+  public void detectsWhetherGzipIsAccepted() {
+    assertThat(GzipPolicy.acceptsGzip("gzip"), is(true));
+    assertThat(GzipPolicy.acceptsGzip("deflate, GZIP;q=0.5"), is(true));
+    assertThat(GzipPolicy.acceptsGzip("br, gzip ; q=1.0"), is(true));
+    assertThat(GzipPolicy.acceptsGzip("gzip;q=0"), is(false));
+    assertThat(GzipPolicy.acceptsGzip("gzip; q=0.000"), is(false));
+    assertThat(GzipPolicy.acceptsGzip("x-gzip, deflate"), is(false));
+    assertThat(GzipPolicy.acceptsGzip(null), is(false));
+  }
+}
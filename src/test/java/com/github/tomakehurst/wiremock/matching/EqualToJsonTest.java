@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2023 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -70,6 +70,17 @@ public class EqualToJsonTest {
         is(0.4));
   }
 
+  @Test
+  public void returnsTheSameNearMissDistanceEachTimeItIsAskedFor() {
+    MatchResult result =
+        WireMock.equalToJson("{\"one\": 1, \"two\": 2, \"three\": 3, \"four\": 4}")
+            .match("{\"one\": 1, \"two\": 2, \"three\": 7, \"four\": 8}");
+
+    assertThat(result.isExactMatch(), is(false));
+    assertThat(result.getDistance(), is(0.4));
+    assertThat(result.getDistance(), is(0.4));
+  }
+
   @Test
   public void returnsLargeDistanceForTotallyDifferentDocuments() {
     assertThat(
@@ -617,14 +628,29 @@ public class EqualToJsonTest {
 
     assertThat(match.getSubEvents().size(), is(1));
     Errors.Error error =
-        match.getSubEvents().stream()
-            .findFirst()
-            .get()
-            .getDataAs(Errors.class)
-            .getErrors()
-            .stream()
+        match.getSubEvents().stream().findFirst().get().getDataAs(Errors.class).getErrors().stream()
             .findFirst()
             .get();
     assertThat(error.getDetail(), startsWith("Unexpected end-of-input"));
   }
+
+  @Test
+  void matchesUnorderedArraysWhoseElementsMatchMoreThanOneCandidate() {
+    EqualToJsonPattern pattern =
+        new EqualToJsonPattern("[{\"a\": 1}, {\"a\": 1, \"b\": 2}]", true, true);
+
+    assertThat(pattern.match("[{\"a\": 1, \"b\": 2}, {\"a\": 1}]").isExactMatch(), is(true));
+    assertThat(pattern.match("[{\"a\": 1, \"b\": 2, \"c\": 3}]").isExactMatch(), is(false));
+  }
+
+  @Test
+  void comparesNumbersByValueAndStillComputesDistanceForNearMisses() {
+    EqualToJsonPattern pattern = new EqualToJsonPattern("{\"one\": 1.0, \"two\": 2}", false, false);
+
+    assertThat(pattern.match("{\"one\": 1, \"two\": 2.00}").isExactMatch(), is(true));
+
+    MatchResult nearMiss = pattern.match("{\"one\": 1, \"two\": 3}");
+    assertThat(nearMiss.isExactMatch(), is(false));
+    assertThat(nearMiss.getDistance(), closeTo(0.33, 0.01));
+  }
 }
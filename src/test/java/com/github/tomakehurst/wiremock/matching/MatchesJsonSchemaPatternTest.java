@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2023-2024 Thomas Akehurst
+ * Copyright (C) 2023-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -440,6 +440,22 @@ public class MatchesJsonSchemaPatternTest {
                 })));
   }
 
+  @Test
+  void sharesCompiledSchemasBetweenPatternsWithTheSameSchemaAndVersion() {
+    String schema = "{\"type\": \"object\", \"required\": [\"id\"]}";
+    String reformattedSchema = "{ \"type\":\"object\",\n  \"required\":[\"id\"] }";
+
+    CompiledJsonSchema compiled = CompiledJsonSchema.of(Json.node(schema), V4);
+
+    assertThat(CompiledJsonSchema.of(Json.node(reformattedSchema), V4), sameInstance(compiled));
+    assertThat(CompiledJsonSchema.of(Json.node(schema), V6), not(sameInstance(compiled)));
+    assertThat(
+        new MatchesJsonSchemaPattern(reformattedSchema, V4).match("{}").isExactMatch(), is(false));
+    assertThat(
+        new MatchesJsonSchemaPattern(reformattedSchema, V4).match("{\"id\": 1}").isExactMatch(),
+        is(true));
+  }
+
   private static String stringify(String json) {
     return "\"" + json.replace("\n", "").replace("\"", "\\\"") + "\"";
   }
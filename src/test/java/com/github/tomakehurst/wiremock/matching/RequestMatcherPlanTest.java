@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.matching;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.matching;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathTemplate;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.GET;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.POST;
+import static com.github.tomakehurst.wiremock.matching.MockRequest.mockRequest;
+import static com.github.tomakehurst.wiremock.matching.RequestPatternBuilder.newRequestPattern;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import com.github.tomakehurst.wiremock.client.BasicCredentials;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class RequestMatcherPlanTest {
+
+  @Test
+  void matchesHeadersCaseInsensitivelyAlongsideBasicAuth() {
+    RequestMatcherPlan plan =
+        RequestMatcherPlan.compile(
+            newRequestPattern(GET, urlPathEqualTo("/things"))
+                .withHeader("X-Thing", equalTo("one"))
+                .withBasicAuth(new BasicCredentials("user", "pass"))
+                .build());
+
+    String authorization = new BasicCredentials("user", "pass").asAuthorizationHeaderValue();
+    assertThat(
+        plan.isMatchedBy(
+            mockRequest()
+                .method(GET)
+                .url("/things")
+                .header("x-thing", "one")
+                .header("authorization", authorization),
+            Map.of()),
+        is(true));
+    assertThat(
+        plan.isMatchedBy(
+            mockRequest().method(GET).url("/things").header("x-thing", "one"), Map.of()),
+        is(false));
+  }
+
+  @Test
+  void matchesPathParametersOfUnroutedRequests() {
+    RequestMatcherPlan plan =
+        RequestMatcherPlan.compile(
+            newRequestPattern(GET, urlPathTemplate("/things/{id}"))
+                .withPathParam("id", equalTo("123"))
+                .build());
+
+    assertThat(plan.isMatchedBy(mockRequest().method(GET).url("/things/123"), Map.of()), is(true));
+    assertThat(plan.isMatchedBy(mockRequest().method(GET).url("/things/456"), Map.of()), is(false));
+  }
+
+  @Test
+  void stopsAtTheFirstPartThatDoesNotMatch() {
+    AtomicInteger customMatcherCalls = new AtomicInteger();
+    RequestMatcherPlan plan =
+        RequestMatcherPlan.compile(
+            newRequestPattern(POST, urlPathEqualTo("/things"))
+                .andMatching(
+                    request -> {
+                      customMatcherCalls.incrementAndGet();
+                      return MatchResult.exactMatch();
+                    })
+                .build());
+
+    assertThat(plan.isMatchedBy(mockRequest().method(GET).url("/things"), Map.of()), is(false));
+    assertThat(customMatcherCalls.get(), is(0));
+
+    assertThat(plan.isMatchedBy(mockRequest().method(POST).url("/things"), Map.of()), is(true));
+    assertThat(customMatcherCalls.get(), is(1));
+  }
+
+  @Test
+  void stubMappingRecompilesItsPlanWhenTheRequestPatternChanges() {
+    StubMapping stub =
+        new StubMapping(newRequestPattern(GET, urlPathEqualTo("/one")).build(), ok().build());
+    RequestMatcherPlan plan = stub.getMatcherPlan();
+    assertThat(stub.getMatcherPlan(), sameInstance(plan));
+
+    stub.setRequest(newRequestPattern(GET, urlPathEqualTo("/two")).build());
+
+    assertThat(stub.getMatcherPlan(), not(sameInstance(plan)));
+    assertThat(
+        stub.getMatcherPlan().isMatchedBy(mockRequest().method(GET).url("/two"), Map.of()),
+        is(true));
+  }
+
+  @Test
+  void extractsTheTextBodiesMustContainFromContainsAndRegexPatterns() {
+    RequestMatcherPlan plan =
+        RequestMatcherPlan.compile(
+            newRequestPattern(POST, urlPathEqualTo("/things"))
+                .withRequestBody(containing("order"))
+                .withRequestBody(matching("^<item id=\"\\d+\"/>"))
+                .withRequestBody(equalToJson("{}"))
+                .build());
+
+    assertThat(plan.getRequiredBodyLiterals(), contains("order", "<item id=\""));
+  }
+
+  @Test
+  void onlyTakesRegexPrefixesThatEveryMatchMustStartWith() {
+    assertThat(RequestMatcherPlan.literalPrefixOf("abc.*"), is("abc"));
+    assertThat(RequestMatcherPlan.literalPrefixOf("abcd?e"), is("abc"));
+    assertThat(RequestMatcherPlan.literalPrefixOf("abc{2}"), is("ab"));
+    assertThat(RequestMatcherPlan.literalPrefixOf("abc(d|e)"), is(""));
+    assertThat(RequestMatcherPlan.literalPrefixOf("(?i)abc"), is(""));
+    assertThat(RequestMatcherPlan.literalPrefixOf("\\Qabc\\E"), is(""));
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2024 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -49,8 +49,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.github.tomakehurst.wiremock.common.Json;
 import com.github.tomakehurst.wiremock.http.FormParameter;
+import com.github.tomakehurst.wiremock.http.Request;
 import com.github.tomakehurst.wiremock.http.RequestMethod;
 import com.github.tomakehurst.wiremock.junit5.EnabledIfJettyVersion;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -641,6 +643,107 @@ class RequestPatternTest {
           + "    ]                                                  \n"
           + "}";
 
+  @Test
+  void matchExactlyAgreesWithMatchForEachRequestPart() {
+    RequestPattern requestPattern =
+        newRequestPattern(POST, urlPathTemplate("/things/{id}"))
+            .withPathParam("id", equalTo("123"))
+            .withHeader("X-Thing", equalTo("yes"))
+            .withQueryParam("q", equalTo("abc"))
+            .withCookie("session", equalTo("s1"))
+            .withRequestBody(equalToJson("{ \"thing\": 1 }"))
+            .build();
+
+    MockRequest matching =
+        mockRequest()
+            .method(POST)
+            .url("/things/123?q=abc")
+            .header("X-Thing", "yes")
+            .cookie("session", "s1")
+            .body("{ \"thing\": 1 }");
+
+    List<MockRequest> requests =
+        List.of(
+            matching,
+            mockRequest()
+                .method(GET)
+                .url("/things/123?q=abc")
+                .header("X-Thing", "yes")
+                .cookie("session", "s1")
+                .body("{ \"thing\": 1 }"),
+            mockRequest()
+                .method(POST)
+                .url("/things/456?q=abc")
+                .header("X-Thing", "yes")
+                .cookie("session", "s1")
+                .body("{ \"thing\": 1 }"),
+            mockRequest()
+                .method(POST)
+                .url("/things/123?q=abc")
+                .header("X-Thing", "no")
+                .cookie("session", "s1")
+                .body("{ \"thing\": 1 }"),
+            mockRequest()
+                .method(POST)
+                .url("/things/123?q=xyz")
+                .header("X-Thing", "yes")
+                .cookie("session", "s1")
+                .body("{ \"thing\": 1 }"),
+            mockRequest()
+                .method(POST)
+                .url("/things/123?q=abc")
+                .header("X-Thing", "yes")
+                .cookie("session", "s2")
+                .body("{ \"thing\": 1 }"),
+            mockRequest()
+                .method(POST)
+                .url("/things/123?q=abc")
+                .header("X-Thing", "yes")
+                .cookie("session", "s1")
+                .body("{ \"thing\": 2 }"));
+
+    for (MockRequest request : requests) {
+      assertThat(
+          requestPattern.matchExactly(request, Map.of()).isExactMatch(),
+          is(requestPattern.match(request).isExactMatch()));
+    }
+    assertTrue(requestPattern.isMatchedBy(matching, Map.of()));
+  }
+
+  @Test
+  void matchExactlyStopsEvaluatingAtTheFirstPartThatDoesNotMatch() {
+    List<Request> evaluated = new ArrayList<>();
+    RequestPattern requestPattern =
+        newRequestPattern(PUT, urlEqualTo("/things"))
+            .andMatching(
+                request -> {
+                  evaluated.add(request);
+                  return MatchResult.exactMatch();
+                })
+            .build();
+
+    MatchResult result =
+        requestPattern.matchExactly(mockRequest().method(GET).url("/things"), Map.of());
+
+    assertFalse(result.isExactMatch());
+    assertTrue(evaluated.isEmpty());
+  }
+
+  @Test
+  void matchExactlyCollectsSubEventsFromEvaluatedParts() {
+    RequestPattern requestPattern =
+        newRequestPattern(POST, urlEqualTo("/things"))
+            .withRequestBody(matchingJsonPath("$.thing"))
+            .build();
+
+    MatchResult result =
+        requestPattern.matchExactly(
+            mockRequest().method(POST).url("/things").body("<things/>"), Map.of());
+
+    assertFalse(result.isExactMatch());
+    assertThat(result.getSubEvents().size(), is(1));
+  }
+
   @Test
   void correctlyDeserialisesBodyPatterns() {
     RequestPattern pattern = Json.read(ALL_BODY_PATTERNS_EXAMPLE, RequestPattern.class);
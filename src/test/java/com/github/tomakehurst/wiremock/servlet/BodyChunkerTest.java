@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2017-2021 Thomas Akehurst
+ * Copyright (C) 2017-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -83,4 +83,14 @@ public class BodyChunkerTest {
     assertThat(chunkedBody, arrayWithSize(1));
     assertThat(chunkedBody[0], equalTo(body));
   }
+
+  @Test
+  public void returnsChunkLengthsWithExcessInLastChunk() {
+    assertThat(BodyChunker.chunkLengths(10, 3), equalTo(new int[] {3, 3, 4}));
+  }
+
+  @Test
+  public void limitsNumberOfChunksToBodyLength() {
+    assertThat(BodyChunker.chunkLengths(2, 5), equalTo(new int[] {1, 1}));
+  }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2011-2024 Thomas Akehurst
+ * Copyright (C) 2011-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -39,6 +39,8 @@ import com.github.tomakehurst.wiremock.http.CaseInsensitiveKey;
 import com.github.tomakehurst.wiremock.http.Request;
 import com.github.tomakehurst.wiremock.http.ResponseDefinition;
 import com.github.tomakehurst.wiremock.http.trafficlistener.ConsoleNotifyingWiremockNetworkTrafficListener;
+import com.github.tomakehurst.wiremock.jetty.QueuedThreadPoolFactory;
+import com.github.tomakehurst.wiremock.jetty.VirtualThreadPoolFactory;
 import com.github.tomakehurst.wiremock.matching.MatchResult;
 import com.github.tomakehurst.wiremock.matching.RequestMatcherExtension;
 import com.github.tomakehurst.wiremock.security.Authenticator;
@@ -326,6 +328,15 @@ public class CommandLineOptionsTest {
     assertThat(options.containerThreads(), is(25));
   }
 
+  @Test
+  public void usesVirtualThreadPoolFactoryWhenVirtualThreadsOptionPresent() {
+    assertThat(
+        new CommandLineOptions("--virtual-threads").threadPoolFactory(),
+        instanceOf(VirtualThreadPoolFactory.class));
+    assertThat(
+        new CommandLineOptions().threadPoolFactory(), instanceOf(QueuedThreadPoolFactory.class));
+  }
+
   @Test
   public void returnsCorrectlyParsedJettyAcceptorThreads() {
     CommandLineOptions options = new CommandLineOptions("--jetty-acceptor-threads", "400");
@@ -0,0 +1,199 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.store;
+
+import static com.github.tomakehurst.wiremock.testsupport.MockRequestBuilder.aRequest;
+import static com.github.tomakehurst.wiremock.verification.LoggedRequest.createFrom;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public class BoundedInMemoryRequestJournalStoreTest {
+
+  @Test
+  void overwritesOldestEventsWhenCapacityIsReached() {
+    BoundedInMemoryRequestJournalStore store = new BoundedInMemoryRequestJournalStore(3);
+    ServeEvent one = anEvent("/one");
+    ServeEvent two = anEvent("/two");
+    ServeEvent three = anEvent("/three");
+    ServeEvent four = anEvent("/four");
+
+    store.add(one);
+    store.add(two);
+    store.add(three);
+    assertThat(store.size(), is(3));
+
+    store.add(four);
+
+    assertThat(store.size(), is(3));
+    assertThat(store.getAll().collect(toList()), contains(four, three, two));
+    assertThat(store.get(one.getId()), is(Optional.empty()));
+    assertThat(store.get(four.getId()), is(Optional.of(four)));
+  }
+
+  @Test
+  void removesEventsByIdAndOldestFirst() {
+    BoundedInMemoryRequestJournalStore store = new BoundedInMemoryRequestJournalStore(3);
+    ServeEvent one = anEvent("/one");
+    ServeEvent two = anEvent("/two");
+    ServeEvent three = anEvent("/three");
+    List.of(one, two, three).forEach(store::add);
+
+    store.remove(two.getId());
+    assertThat(store.getAll().collect(toList()), contains(three, one));
+
+    store.removeLast();
+    assertThat(store.getAll().collect(toList()), contains(three));
+    assertThat(store.size(), is(1));
+
+    store.clear();
+    assertThat(store.getAll().collect(toList()), is(empty()));
+    assertThat(store.size(), is(0));
+  }
+
+  @Test
+  void onlyOverwritesOldestEventWhenFullAfterARemoval() {
+    BoundedInMemoryRequestJournalStore store = new BoundedInMemoryRequestJournalStore(3);
+    ServeEvent one = anEvent("/one");
+    ServeEvent two = anEvent("/two");
+    ServeEvent three = anEvent("/three");
+    ServeEvent four = anEvent("/four");
+    ServeEvent five = anEvent("/five");
+    List.of(one, two, three).forEach(store::add);
+
+    store.remove(two.getId());
+    store.add(four);
+
+    assertThat(store.size(), is(3));
+    assertThat(store.getAll().collect(toList()), contains(four, three, one));
+    assertThat(store.get(one.getId()), is(Optional.of(one)));
+
+    store.add(five);
+
+    assertThat(store.size(), is(3));
+    assertThat(store.getAll().collect(toList()), contains(five, four, three));
+    assertThat(store.get(one.getId()), is(Optional.empty()));
+  }
+
+  @Test
+  void reusesTheSpaceOfRemovedEventsAcrossChunks() {
+    BoundedInMemoryRequestJournalStore store = new BoundedInMemoryRequestJournalStore(300);
+    List<ServeEvent> first = anEventPerPath(300);
+    first.forEach(store::add);
+
+    first.subList(0, 200).forEach(event -> store.remove(event.getId()));
+    List<ServeEvent> second = anEventPerPath(200);
+    second.forEach(store::add);
+
+    assertThat(store.size(), is(300));
+    assertThat(store.getAll().count(), is(300L));
+    first
+        .subList(200, 300)
+        .forEach(event -> assertThat(store.get(event.getId()).isPresent(), is(true)));
+  }
+
+  @Test
+  void keepsExactlyTheCapacityWhenAddsRace() throws Exception {
+    BoundedInMemoryRequestJournalStore store = new BoundedInMemoryRequestJournalStore(2);
+    List<List<ServeEvent>> batches = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      batches.add(anEventPerPath(500));
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(batches.size());
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<?>> adds = new ArrayList<>();
+    for (List<ServeEvent> batch : batches) {
+      adds.add(
+          executor.submit(
+              () -> {
+                start.await();
+                batch.forEach(store::add);
+                return null;
+              }));
+    }
+    start.countDown();
+    for (Future<?> add : adds) {
+      add.get();
+    }
+    executor.shutdown();
+
+    assertThat(store.size(), is(2));
+    assertThat(store.getAll().count(), is(2L));
+    assertThat(
+        batches.stream()
+            .flatMap(List::stream)
+            .filter(event -> store.get(event.getId()).isPresent())
+            .count(),
+        is(2L));
+  }
+
+  @Test
+  void doesNotAllocateTheWholeCapacityUpFront() {
+    BoundedInMemoryRequestJournalStore store =
+        new BoundedInMemoryRequestJournalStore(Integer.MAX_VALUE);
+    ServeEvent event = anEvent("/one");
+
+    store.add(event);
+
+    assertThat(store.getAll().collect(toList()), contains(event));
+  }
+
+  @Test
+  void replacesExistingEventsOnly() {
+    BoundedInMemoryRequestJournalStore store = new BoundedInMemoryRequestJournalStore(2);
+    ServeEvent event = anEvent("/one");
+    store.add(event);
+
+    ServeEvent completed = event.withStubMapping(null);
+    store.put(event.getId(), completed);
+    ServeEvent notAdded = anEvent("/two");
+    store.put(notAdded.getId(), notAdded);
+
+    assertThat(store.getAll().collect(toList()), contains(completed));
+  }
+
+  @Test
+  void storesNothingWhenCapacityIsZero() {
+    BoundedInMemoryRequestJournalStore store = new BoundedInMemoryRequestJournalStore(0);
+
+    store.add(anEvent("/one"));
+
+    assertThat(store.getAll().collect(toList()), is(empty()));
+    assertThat(store.size(), is(0));
+  }
+
+  private static List<ServeEvent> anEventPerPath(int count) {
+    return IntStream.range(0, count).mapToObj(i -> anEvent("/" + i)).collect(toList());
+  }
+
+  private static ServeEvent anEvent(String url) {
+    return ServeEvent.of(createFrom(aRequest().withUrl(url).build()));
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2024 Thomas Akehurst
+ * Copyright (C) 2024-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,10 @@ import static org.hamcrest.Matchers.*;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Test;
 
@@ -73,6 +77,60 @@ public class InMemoryObjectStoreTest {
     assertThat(store.getAllKeys().collect(toList()), hasItems("one", "three", "four"));
   }
 
+  @Test
+  void tracksRecencyOfReadsInExcessOfTheReadBuffer() {
+    InMemoryObjectStore store = new InMemoryObjectStore(3);
+
+    store.put("one", "1");
+    store.put("two", "2");
+    store.put("three", "3");
+
+    for (int i = 0; i < 2000; i++) {
+      store.get("one");
+    }
+    store.get("two");
+
+    store.put("four", "4");
+    assertThat(store.getAllKeys().collect(toList()), containsInAnyOrder("one", "two", "four"));
+  }
+
+  @Test
+  void respectsSpecifiedLimitUnderConcurrentAccess() throws Exception {
+    InMemoryObjectStore store = new InMemoryObjectStore(50);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    List<Future<?>> futures = new ArrayList<>();
+    for (int t = 0; t < 8; t++) {
+      final int thread = t;
+      futures.add(
+          executor.submit(
+              () -> {
+                for (int i = 0; i < 5000; i++) {
+                  String key = String.valueOf((i * 31 + thread) % 200);
+                  if (i % 3 == 0) {
+                    store.compute(key, current -> "computed");
+                  } else if (i % 7 == 0) {
+                    store.remove(key);
+                  } else {
+                    store.put(key, "value");
+                    store.get(key);
+                  }
+                }
+              }));
+    }
+    for (Future<?> future : futures) {
+      future.get(30, TimeUnit.SECONDS);
+    }
+    executor.shutdown();
+
+    assertThat(store.getAllKeys().count(), lessThanOrEqualTo(50L));
+
+    for (int i = 0; i < 50; i++) {
+      store.put("fresh" + i, i);
+    }
+    assertThat(store.getAllKeys().count(), is(50L));
+  }
+
   @Test
   void sizeLimitRemainsConsistentWhenItemRemoved() {
     InMemoryObjectStore store = new InMemoryObjectStore(3);
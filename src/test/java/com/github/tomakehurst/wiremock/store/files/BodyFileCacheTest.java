@@ -0,0 +1,193 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.store.files;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.github.tomakehurst.wiremock.common.Exceptions;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BodyFileCacheTest {
+
+  @TempDir Path root;
+
+  @Test
+  public void servesUnchangedFilesFromMemory() throws Exception {
+    BodyFileCache cache = new BodyFileCache();
+    Path file = write("body.txt", "contents");
+    Files.setLastModifiedTime(file, FileTime.fromMillis(1_000_000));
+    contentsOf(cache, file);
+
+    // Same size and modification time, so the file isn't read again
+    Files.write(file, "replaced".getBytes());
+    Files.setLastModifiedTime(file, FileTime.fromMillis(1_000_000));
+
+    assertThat(contentsOf(cache, file), is(Optional.of("contents")));
+    BodyFileCacheStatistics statistics = cache.getStatistics();
+    assertThat(statistics.getHitCount(), is(1L));
+    assertThat(statistics.getMissCount(), is(1L));
+    assertThat(statistics.getSize(), is(1L));
+    assertThat(statistics.getBytes(), is(8L));
+  }
+
+  @Test
+  public void readsAFileAgainWhenItsModificationTimeChanges() throws Exception {
+    BodyFileCache cache = new BodyFileCache();
+    Path file = write("body.txt", "first");
+    Files.setLastModifiedTime(file, FileTime.fromMillis(1_000_000));
+    contentsOf(cache, file);
+
+    Files.write(file, "other".getBytes());
+    Files.setLastModifiedTime(file, FileTime.fromMillis(2_000_000));
+
+    assertThat(contentsOf(cache, file), is(Optional.of("other")));
+    assertThat(cache.getStatistics().getMissCount(), is(2L));
+    assertThat(cache.getStatistics().getHitCount(), is(0L));
+  }
+
+  @Test
+  public void readsAFileAgainWhenItsSizeChanges() throws Exception {
+    BodyFileCache cache = new BodyFileCache();
+    Path file = write("body.txt", "first");
+    Files.setLastModifiedTime(file, FileTime.fromMillis(1_000_000));
+    contentsOf(cache, file);
+
+    Files.write(file, "longer contents".getBytes());
+    Files.setLastModifiedTime(file, FileTime.fromMillis(1_000_000));
+
+    assertThat(contentsOf(cache, file), is(Optional.of("longer contents")));
+  }
+
+  @Test
+  public void countsHitsForUnchangedFiles() throws Exception {
+    BodyFileCache cache = new BodyFileCache();
+    Path file = write("body.txt", "contents");
+
+    contentsOf(cache, file);
+    contentsOf(cache, file);
+    contentsOf(cache, file);
+
+    assertThat(cache.getStatistics().getHitCount(), is(2L));
+    assertThat(cache.getStatistics().getMissCount(), is(1L));
+  }
+
+  @Test
+  public void doesNotCacheFilesLargerThanTheEntryLimit() throws Exception {
+    BodyFileCache cache = new BodyFileCache(100, 4);
+    Path file = write("body.txt", "too long");
+
+    assertThat(contentsOf(cache, file), is(Optional.empty()));
+    assertThat(cache.getStatistics().getSize(), is(0L));
+  }
+
+  @Test
+  public void dropsContentsToStayWithinTheByteLimit() throws Exception {
+    BodyFileCache cache = new BodyFileCache(10, 10);
+
+    contentsOf(cache, write("one.txt", "123456"));
+    contentsOf(cache, write("two.txt", "123456"));
+
+    BodyFileCacheStatistics statistics = cache.getStatistics();
+    assertThat(statistics.getSize(), is(1L));
+    assertThat(statistics.getBytes(), is(6L));
+    assertThat(statistics.getEvictionCount(), is(1L));
+  }
+
+  @Test
+  @DisabledOnOs(value = OS.WINDOWS, disabledReason = "Body files aren't mapped on Windows")
+  public void keepsOneMappingPerUnchangedFile() throws Exception {
+    BodyFileCache cache = new BodyFileCache();
+    Path file = write("body.txt", "contents");
+
+    ByteBuffer first = cache.mappingOf(file).orElseThrow();
+    first.position(first.limit());
+
+    assertThat(mappedContentsOf(cache, file), is(Optional.of("contents")));
+    assertThat(cache.getStatistics().getMappedFiles(), is(1L));
+    assertThat(cache.getStatistics().getSize(), is(0L));
+  }
+
+  @Test
+  @DisabledOnOs(value = OS.WINDOWS, disabledReason = "Body files aren't mapped on Windows")
+  public void mapsAFileAgainWhenItChanges() throws Exception {
+    BodyFileCache cache = new BodyFileCache();
+    Path file = write("body.txt", "first");
+    Files.setLastModifiedTime(file, FileTime.fromMillis(1_000_000));
+    cache.mappingOf(file);
+
+    Files.write(file, "longer contents".getBytes());
+    Files.setLastModifiedTime(file, FileTime.fromMillis(1_000_000));
+
+    assertThat(mappedContentsOf(cache, file), is(Optional.of("longer contents")));
+    assertThat(cache.getStatistics().getMappedFiles(), is(1L));
+  }
+
+  @Test
+  @DisabledOnOs(value = OS.WINDOWS, disabledReason = "Body files aren't mapped on Windows")
+  public void dropsMappingsWhenInvalidatedOrOverTheLimit() throws Exception {
+    BodyFileCache cache = new BodyFileCache(100, 100, 1);
+    Path one = write("one.txt", "one");
+
+    cache.mappingOf(one);
+    cache.invalidate(one);
+    assertThat(cache.getStatistics().getMappedFiles(), is(0L));
+
+    cache.mappingOf(one);
+    cache.mappingOf(write("two.txt", "two"));
+    assertThat(cache.getStatistics().getMappedFiles(), is(1L));
+  }
+
+  @Test
+  public void doesNotMapMissingFiles() {
+    BodyFileCache cache = new BodyFileCache();
+
+    assertThat(cache.mappingOf(root.resolve("missing.txt")), is(Optional.empty()));
+    assertThat(cache.getStatistics().getMappedFiles(), is(0L));
+  }
+
+  private static Optional<String> mappedContentsOf(BodyFileCache cache, Path file) {
+    return cache.mappingOf(file).map(mapping -> StandardCharsets.UTF_8.decode(mapping).toString());
+  }
+
+  private Path write(String name, String contents) throws IOException {
+    return Files.write(root.resolve(name), contents.getBytes());
+  }
+
+  private static Optional<String> contentsOf(BodyFileCache cache, Path file) throws IOException {
+    return cache
+        .contentsOf(file, attributesOf(file))
+        .map(
+            contents ->
+                new String(
+                    Exceptions.uncheck(() -> contents.getStream().readAllBytes(), byte[].class)));
+  }
+
+  private static BasicFileAttributes attributesOf(Path file) throws IOException {
+    return Files.readAttributes(file, BasicFileAttributes.class);
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2023 Thomas Akehurst
+ * Copyright (C) 2023-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,10 +17,20 @@ package com.github.tomakehurst.wiremock.store.files;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 
+import com.github.tomakehurst.wiremock.common.InputStreamSource;
+import com.github.tomakehurst.wiremock.common.SingleRootFileSource;
+import com.github.tomakehurst.wiremock.common.StreamSources;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
 
 class FileSourceBlobStoreTest {
   private static final String DIRECTORY_PATH =
@@ -47,4 +57,83 @@ class FileSourceBlobStoreTest {
           assertEquals(Optional.empty(), result);
         });
   }
+
+  @Test
+  public void exposesTheFileBehindAStreamSourceWhenItIsNotCached(@TempDir Path root)
+      throws Exception {
+    Files.write(root.resolve("body.txt"), "file contents".getBytes());
+    FileSourceBlobStore fileSourceBlobStore =
+        new FileSourceBlobStore(new SingleRootFileSource(root.toString()), new BodyFileCache(0, 0));
+
+    InputStreamSource source = fileSourceBlobStore.getStreamSource("body.txt");
+
+    assertInstanceOf(StreamSources.FileInputStreamSource.class, source);
+    assertEquals(
+        root.resolve("body.txt").toRealPath(),
+        ((StreamSources.FileInputStreamSource) source).getPath().toRealPath());
+    try (InputStream stream = source.getStream()) {
+      assertEquals("file contents", new String(stream.readAllBytes()));
+    }
+  }
+
+  @Test
+  public void doesNotExposeAFileForAMissingKey() {
+    FileSourceBlobStore fileSourceBlobStore = new FileSourceBlobStore(DIRECTORY_PATH);
+
+    assertFalse(
+        fileSourceBlobStore.getStreamSource("any-key")
+            instanceof StreamSources.FileInputStreamSource);
+  }
+
+  @Test
+  public void servesSmallFilesFromTheBodyFileCache(@TempDir Path root) throws Exception {
+    Files.write(root.resolve("body.txt"), "file contents".getBytes());
+    FileSourceBlobStore fileSourceBlobStore = new FileSourceBlobStore(root.toString());
+
+    InputStreamSource first = fileSourceBlobStore.getStreamSource("body.txt");
+    InputStreamSource second = fileSourceBlobStore.getStreamSource("body.txt");
+
+    assertFalse(first instanceof StreamSources.FileInputStreamSource);
+    assertFalse(first instanceof StreamSources.ByteArrayInputStreamSource);
+    try (InputStream stream = second.getStream()) {
+      assertEquals("file contents", new String(stream.readAllBytes()));
+    }
+    BodyFileCacheStatistics statistics = fileSourceBlobStore.getBodyFileCacheStatistics();
+    assertEquals(1, statistics.getHitCount());
+    assertEquals(1, statistics.getMissCount());
+    assertEquals("file contents".length(), statistics.getBytes());
+  }
+
+  @Test
+  public void writingAFileDropsItsCachedContents(@TempDir Path root) throws Exception {
+    Files.write(root.resolve("body.txt"), "first".getBytes());
+    FileSourceBlobStore fileSourceBlobStore = new FileSourceBlobStore(root.toString());
+    fileSourceBlobStore.getStreamSource("body.txt");
+
+    fileSourceBlobStore.put("body.txt", "other".getBytes());
+
+    assertEquals(0, fileSourceBlobStore.getBodyFileCacheStatistics().getSize());
+    try (InputStream stream = fileSourceBlobStore.getStreamSource("body.txt").getStream()) {
+      assertEquals("other", new String(stream.readAllBytes()));
+    }
+  }
+
+  @Test
+  @DisabledOnOs(value = OS.WINDOWS, disabledReason = "Body files aren't mapped on Windows")
+  public void writingOrRemovingAFileDropsItsMapping(@TempDir Path root) throws Exception {
+    Files.write(root.resolve("body.txt"), "first".getBytes());
+    FileSourceBlobStore fileSourceBlobStore =
+        new FileSourceBlobStore(new SingleRootFileSource(root.toString()), new BodyFileCache(0, 0));
+    StreamSources.FileInputStreamSource source =
+        (StreamSources.FileInputStreamSource) fileSourceBlobStore.getStreamSource("body.txt");
+    source.getMappedContents();
+    assertEquals(1, fileSourceBlobStore.getBodyFileCacheStatistics().getMappedFiles());
+
+    fileSourceBlobStore.put("body.txt", "other".getBytes());
+    assertEquals(0, fileSourceBlobStore.getBodyFileCacheStatistics().getMappedFiles());
+
+    source.getMappedContents();
+    fileSourceBlobStore.remove("body.txt");
+    assertEquals(0, fileSourceBlobStore.getBodyFileCacheStatistics().getMappedFiles());
+  }
 }
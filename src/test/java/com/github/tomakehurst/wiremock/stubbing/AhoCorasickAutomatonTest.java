@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.stubbing;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class AhoCorasickAutomatonTest {
+
+  @Test
+  void findsOverlappingAndNestedLiterals() {
+    AhoCorasickAutomaton automaton =
+        new AhoCorasickAutomaton(List.of("he", "she", "his", "hers", "usher"));
+
+    assertThat(automaton.findIn("ushers"), containsInAnyOrder("he", "she", "hers", "usher"));
+    assertThat(automaton.findIn("this"), containsInAnyOrder("his"));
+    assertThat(automaton.findIn("nothing"), is(empty()));
+  }
+
+  @Test
+  void findsLiteralsThatNeedTheFailureLinksToBeFollowed() {
+    AhoCorasickAutomaton automaton = new AhoCorasickAutomaton(List.of("abcd", "bce", "c"));
+
+    assertThat(automaton.findIn("abce"), containsInAnyOrder("bce", "c"));
+    assertThat(automaton.contains("bce"), is(true));
+    assertThat(automaton.contains("bc"), is(false));
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2017-2022 Thomas Akehurst
+ * Copyright (C) 2017-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,7 +21,14 @@ import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -387,6 +394,67 @@ public class ScenariosTest {
     assertThat(scenarios.getByName("one").getState(), is("step two"));
   }
 
+  @Test
+  public void tryServeOnlyTransitionsWhenScenarioIsInRequiredState() {
+    StubMapping mapping1 =
+        get("/scenarios/1")
+            .inScenario("one")
+            .whenScenarioStateIs(STARTED)
+            .willSetStateTo("step two")
+            .willReturn(ok())
+            .build();
+    StubMapping mapping2 =
+        get("/scenarios/2")
+            .inScenario("one")
+            .whenScenarioStateIs("step two")
+            .willReturn(ok())
+            .build();
+    scenarios.onStubMappingAdded(mapping1);
+    scenarios.onStubMappingAdded(mapping2);
+
+    assertThat(scenarios.tryServe(mapping2), is(false));
+    assertThat(scenarios.tryServe(mapping1), is(true));
+    assertThat(scenarios.getByName("one").getState(), is("step two"));
+    assertThat(scenarios.tryServe(mapping1), is(false));
+    assertThat(scenarios.tryServe(mapping2), is(true));
+  }
+
+  @Test
+  public void onlyOneConcurrentServeTransitionsFromTheRequiredState() throws Exception {
+    StubMapping mapping =
+        get("/scenarios/1")
+            .inScenario("one")
+            .whenScenarioStateIs(STARTED)
+            .willSetStateTo("step two")
+            .willReturn(ok())
+            .build();
+    scenarios.onStubMappingAdded(mapping);
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<Boolean>> results = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      results.add(
+          executor.submit(
+              () -> {
+                start.await();
+                return scenarios.tryServe(mapping);
+              }));
+    }
+    start.countDown();
+
+    int served = 0;
+    for (Future<Boolean> result : results) {
+      if (result.get(10, TimeUnit.SECONDS)) {
+        served++;
+      }
+    }
+    executor.shutdown();
+
+    assertThat(served, is(1));
+    assertThat(scenarios.getByName("one").getState(), is("step two"));
+  }
+
   @Test
   public void doesNotRemovePossibleStateWhenStubIsRemovedButOtherStubsHaveThatState() {
     StubMapping mapping1 =
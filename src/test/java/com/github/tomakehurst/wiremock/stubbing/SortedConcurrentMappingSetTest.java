@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2011-2021 Thomas Akehurst
+ * Copyright (C) 2011-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,16 +15,36 @@
  */
 package com.github.tomakehurst.wiremock.stubbing;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
+import static com.github.tomakehurst.wiremock.client.WireMock.matching;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathTemplate;
 import static com.github.tomakehurst.wiremock.http.RequestMethod.ANY;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.GET;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.GET_OR_HEAD;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.HEAD;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.POST;
+import static com.github.tomakehurst.wiremock.matching.MockRequest.mockRequest;
 import static com.github.tomakehurst.wiremock.matching.RequestPatternBuilder.newRequestPattern;
 import static com.github.tomakehurst.wiremock.testsupport.WireMatchers.hasExactly;
+import static java.util.stream.Collectors.toList;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
 
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
 import com.github.tomakehurst.wiremock.http.ResponseDefinition;
 import com.github.tomakehurst.wiremock.matching.RequestPattern;
+import com.github.tomakehurst.wiremock.matching.RequestPatternBuilder;
+import com.github.tomakehurst.wiremock.matching.StringValuePattern;
+import com.github.tomakehurst.wiremock.matching.UrlPattern;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeMatcher;
@@ -134,6 +154,134 @@ public class SortedConcurrentMappingSetTest {
     assertThat(it.hasNext(), is(false));
   }
 
+  @Test
+  public void getsMappingsByIdAfterAddReplaceAndRemove() {
+    StubMapping first = aMapping(1, "/things/1");
+    StubMapping second = aMapping(1, "/things/2");
+    mappingSet.add(first);
+    mappingSet.add(second);
+
+    assertThat(mappingSet.get(first.getId()), is(Optional.of(first)));
+    assertThat(mappingSet.get(second.getId()), is(Optional.of(second)));
+    assertThat(mappingSet.get(UUID.randomUUID()), is(Optional.empty()));
+
+    StubMapping replacement = aMapping(1, "/things/3");
+    replacement.setId(first.getId());
+    replacement.setInsertionIndex(first.getInsertionIndex());
+    mappingSet.replace(first, replacement);
+    assertThat(mappingSet.get(first.getId()), is(Optional.of(replacement)));
+
+    mappingSet.remove(second);
+    assertThat(mappingSet.get(second.getId()), is(Optional.empty()));
+
+    mappingSet.clear();
+    assertThat(mappingSet.get(first.getId()), is(Optional.empty()));
+  }
+
+  @Test
+  public void indexedSetReturnsOnlyCandidatesForRequestInPriorityThenInsertionOrder() {
+    mappingSet = new SortedConcurrentMappingSet(true);
+
+    StubMapping anyUrl = aMapping(5, GET, urlMatching(".*"));
+    StubMapping exactUrl = aMapping(5, GET, urlEqualTo("/things/1?q=a"));
+    StubMapping otherUrl = aMapping(5, GET, urlEqualTo("/things/2"));
+    StubMapping exactPath = aMapping(1, ANY, urlPathEqualTo("/things/1"));
+    StubMapping template = aMapping(5, GET_OR_HEAD, urlPathTemplate("/things/{id}"));
+    StubMapping otherTemplate = aMapping(5, GET, urlPathTemplate("/others/{id}"));
+    StubMapping postOnly = aMapping(1, POST, urlPathEqualTo("/things/1"));
+
+    List.of(anyUrl, exactUrl, otherUrl, exactPath, template, otherTemplate, postOnly)
+        .forEach(mappingSet::add);
+
+    assertThat(
+        candidatesFor(GET, "/things/1?q=a"), contains(exactPath, template, exactUrl, anyUrl));
+    assertThat(candidatesFor(HEAD, "/things/1"), contains(exactPath, template));
+    assertThat(candidatesFor(POST, "/things/1"), contains(postOnly, exactPath));
+  }
+
+  @Test
+  public void indexedSetNoLongerReturnsRemovedOrReplacedMappings() {
+    mappingSet = new SortedConcurrentMappingSet(true);
+
+    StubMapping removed = aMapping(5, GET, urlEqualTo("/things/1"));
+    StubMapping existing = aMapping(5, GET, urlEqualTo("/things/1"));
+    mappingSet.add(removed);
+    mappingSet.add(existing);
+
+    mappingSet.remove(removed);
+    StubMapping replacement = aMapping(5, GET, urlEqualTo("/things/2"));
+    replacement.setInsertionIndex(existing.getInsertionIndex());
+    mappingSet.replace(existing, replacement);
+
+    assertThat(candidatesFor(GET, "/things/1").isEmpty(), is(true));
+    assertThat(candidatesFor(GET, "/things/2"), contains(replacement));
+
+    mappingSet.clear();
+    assertThat(candidatesFor(GET, "/things/2").isEmpty(), is(true));
+  }
+
+  @Test
+  public void excludesMappingsWhoseBodyPatternsNeedTextTheBodyDoesNotContain() {
+    StubMapping containsOrder = aMapping(POST, containing("\"type\":\"order\""));
+    StubMapping containsRefund = aMapping(POST, containing("\"type\":\"refund\""));
+    StubMapping regexPrefix = aMapping(POST, matching("<order>.*"));
+    StubMapping alternation = aMapping(POST, matching("<refund>|<order>"));
+    StubMapping noBodyPattern = aMapping(POST, null);
+
+    List.of(containsOrder, containsRefund, regexPrefix, alternation, noBodyPattern)
+        .forEach(mappingSet::add);
+
+    assertThat(
+        candidatesFor(mockRequest().method(POST).url("/things").body("{\"type\":\"order\"}")),
+        contains(noBodyPattern, alternation, containsOrder));
+    assertThat(
+        candidatesFor(mockRequest().method(POST).url("/things").body("<order>1</order>")),
+        contains(noBodyPattern, alternation, regexPrefix));
+
+    mappingSet.remove(containsOrder);
+    StubMapping containsItem = aMapping(POST, containing("item"));
+    mappingSet.add(containsItem);
+    assertThat(
+        candidatesFor(mockRequest().method(POST).url("/things").body("{\"type\":\"item\"}")),
+        contains(containsItem, noBodyPattern, alternation));
+  }
+
+  @Test
+  public void doesNotFilterOnBodyPatternsWhenTheRequestHasNoBody() {
+    StubMapping containsOrder = aMapping(POST, containing("order"));
+    mappingSet.add(containsOrder);
+
+    assertThat(
+        candidatesFor(mockRequest().method(POST).url("/things").body((byte[]) null)),
+        contains(containsOrder));
+  }
+
+  private List<StubMapping> candidatesFor(Request request) {
+    return mappingSet.findCandidates(request).map(candidate -> candidate.a).collect(toList());
+  }
+
+  private StubMapping aMapping(RequestMethod method, StringValuePattern bodyPattern) {
+    RequestPatternBuilder requestPattern = newRequestPattern(method, urlPathEqualTo("/things"));
+    if (bodyPattern != null) {
+      requestPattern.withRequestBody(bodyPattern);
+    }
+    return new StubMapping(requestPattern.build(), new ResponseDefinition());
+  }
+
+  private List<StubMapping> candidatesFor(RequestMethod method, String url) {
+    return mappingSet
+        .findCandidates(mockRequest().method(method).url(url))
+        .map(candidate -> candidate.a)
+        .collect(toList());
+  }
+
+  private StubMapping aMapping(Integer priority, RequestMethod method, UrlPattern urlPattern) {
+    StubMapping mapping =
+        new StubMapping(newRequestPattern(method, urlPattern).build(), new ResponseDefinition());
+    mapping.setPriority(priority);
+    return mapping;
+  }
+
   private StubMapping aMapping(Integer priority, String url) {
     RequestPattern requestPattern = newRequestPattern(ANY, urlEqualTo(url)).build();
     StubMapping mapping = new StubMapping(requestPattern, new ResponseDefinition());
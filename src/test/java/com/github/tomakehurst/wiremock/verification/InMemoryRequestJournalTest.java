@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2014-2023 Thomas Akehurst
+ * Copyright (C) 2014-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,16 +16,24 @@
 package com.github.tomakehurst.wiremock.verification;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.GET;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.POST;
 import static com.github.tomakehurst.wiremock.matching.RequestMatcherExtension.ALWAYS;
 import static com.github.tomakehurst.wiremock.matching.RequestPattern.everything;
 import static com.github.tomakehurst.wiremock.testsupport.MockRequestBuilder.aRequest;
 import static com.github.tomakehurst.wiremock.verification.LoggedRequest.createFrom;
+import static java.util.stream.Collectors.toList;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
 
 import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
 import com.github.tomakehurst.wiremock.matching.RequestMatcherExtension;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
@@ -112,6 +120,65 @@ public class InMemoryRequestJournalTest {
         is(0));
   }
 
+  @Test
+  public void narrowsByMethodAndPathWithoutMissingMatchingRequests() {
+    for (Integer maxEntries : Arrays.asList(null, 10)) {
+      RequestJournal journal = new InMemoryRequestJournal(maxEntries, NO_CUSTOM_MATCHERS);
+      journal.requestReceived(anEvent(GET, "/things/1?q=a"));
+      journal.requestReceived(anEvent(POST, "/things/1"));
+      journal.requestReceived(anEvent(GET, "/things/2"));
+      journal.requestReceived(anEvent(GET, "/things/1"));
+
+      assertThat(
+          journal.countRequestsMatching(getRequestedFor(urlPathEqualTo("/things/1")).build()),
+          is(2));
+      assertThat(
+          journal.countRequestsMatching(getRequestedFor(urlEqualTo("/things/1?q=a")).build()),
+          is(1));
+      assertThat(
+          journal.countRequestsMatching(anyRequestedFor(urlPathEqualTo("/things/1")).build()),
+          is(3));
+      assertThat(
+          journal.countRequestsMatching(getRequestedFor(urlMatching("/things/.*")).build()), is(3));
+      assertThat(
+          journal.getRequestsMatching(getRequestedFor(urlPathEqualTo("/things/1")).build()).stream()
+              .map(LoggedRequest::getUrl)
+              .collect(toList()),
+          contains("/things/1?q=a", "/things/1"));
+
+      journal.removeEventsMatching(postRequestedFor(urlEqualTo("/things/1")).build());
+      assertThat(
+          journal.countRequestsMatching(anyRequestedFor(urlPathEqualTo("/things/1")).build()),
+          is(2));
+    }
+  }
+
+  @Test
+  public void findsServeEventsByMatchedStubMapping() {
+    for (Integer maxEntries : Arrays.asList(null, 10)) {
+      RequestJournal journal = new InMemoryRequestJournal(maxEntries, NO_CUSTOM_MATCHERS);
+      StubMapping stub = get("/things").willReturn(ok()).build();
+      ServeEvent matched = anEvent(GET, "/things");
+      ServeEvent unmatched = anEvent(GET, "/other");
+      journal.requestReceived(matched);
+      journal.requestReceived(unmatched);
+
+      assertThat(journal.getServeEventsForStubMapping(stub.getId()), is(empty()));
+
+      ServeEvent completed =
+          matched.withStubMapping(stub).withResponseDefinition(stub.getResponse());
+      journal.serveCompleted(completed);
+      assertThat(journal.getServeEventsForStubMapping(stub.getId()), contains(completed));
+
+      journal.removeEvent(matched.getId());
+      assertThat(journal.getServeEventsForStubMapping(stub.getId()), is(empty()));
+    }
+  }
+
+  private static ServeEvent anEvent(RequestMethod method, String url) {
+    return ServeEvent.of(createFrom(aRequest().withMethod(method).withUrl(url).build()));
+  }
+
   private void assertOnlyLastTwoRequestsLeft(RequestJournal journal) {
     assertThat(
         journal.countRequestsMatching(getRequestedFor(urlEqualTo("/logging1")).build()), is(0));
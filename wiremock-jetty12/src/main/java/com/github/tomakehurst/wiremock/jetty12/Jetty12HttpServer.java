@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2019-2025 Thomas Akehurst
+ * Copyright (C) 2019-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -32,6 +32,7 @@ import com.github.tomakehurst.wiremock.core.WireMockApp;
 import com.github.tomakehurst.wiremock.http.AdminRequestHandler;
 import com.github.tomakehurst.wiremock.http.RequestHandler;
 import com.github.tomakehurst.wiremock.http.StubRequestHandler;
+import com.github.tomakehurst.wiremock.jetty.GzipPolicy;
 import com.github.tomakehurst.wiremock.jetty.JettyFaultInjectorFactory;
 import com.github.tomakehurst.wiremock.jetty.JettyHttpServer;
 import com.github.tomakehurst.wiremock.jetty.JettyHttpUtils;
@@ -401,6 +402,13 @@ public class Jetty12HttpServer extends JettyHttpServer {
       gzipHandler.addIncludedMethods(GZIPPABLE_METHODS);
       gzipHandler.setHandler(mockServiceContext);
       gzipHandler.setVary(null);
+      mockServiceContext.setAttribute(
+          GzipPolicy.KEY,
+          new GzipPolicy(
+              gzipHandler.getIncludedMethods(),
+              gzipHandler.getExcludedMethods(),
+              gzipHandler::isMimeTypeDeflatable,
+              gzipHandler.getMinGzipSize()));
       handlers.add(gzipHandler);
     } catch (Exception e) {
       throwUnchecked(e);
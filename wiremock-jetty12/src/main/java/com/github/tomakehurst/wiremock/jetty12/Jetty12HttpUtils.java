@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2015-2025 Thomas Akehurst
+ * Copyright (C) 2015-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,12 +19,16 @@ import static com.github.tomakehurst.wiremock.jetty12.HttpProxyDetectingHandler.
 import static com.github.tomakehurst.wiremock.jetty12.HttpsProxyDetectingHandler.IS_HTTPS_PROXY_REQUEST_ATTRIBUTE;
 
 import com.github.tomakehurst.wiremock.jetty.JettyHttpUtils;
+import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
 import java.net.Socket;
+import java.nio.ByteBuffer;
 import java.nio.channels.SocketChannel;
+import org.eclipse.jetty.ee10.servlet.HttpOutput;
 import org.eclipse.jetty.ee10.servlet.ServletApiResponse;
 import org.eclipse.jetty.io.EndPoint;
 import org.eclipse.jetty.io.SelectableChannelEndPoint;
@@ -81,6 +85,16 @@ public class Jetty12HttpUtils implements JettyHttpUtils {
     return connectionMetaData.getEndPoint();
   }
 
+  @Override
+  public boolean writeDirectly(ServletOutputStream out, ByteBuffer content) throws IOException {
+    if (out instanceof HttpOutput) {
+      ((HttpOutput) out).write(content);
+      return true;
+    }
+
+    return false;
+  }
+
   @Override
   public boolean isBrowserProxyRequest(HttpServletRequest request) {
     return Boolean.TRUE.equals(request.getAttribute(IS_HTTPS_PROXY_REQUEST_ATTRIBUTE))
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.jetty12;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.testsupport.WireMockResponse;
+import com.github.tomakehurst.wiremock.testsupport.WireMockTestClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BodyFileTest {
+
+  @TempDir Path rootDirectory;
+
+  WireMockServer wm;
+
+  @Test
+  public void servesALargeBodyFile() throws Exception {
+    byte[] body = new byte[5 * 1024 * 1024];
+    new Random(1).nextBytes(body);
+    Files.createDirectories(rootDirectory.resolve("__files"));
+    Files.write(rootDirectory.resolve("__files/large.bin"), body);
+
+    wm =
+        new WireMockServer(
+            wireMockConfig().dynamicPort().withRootDirectory(rootDirectory.toString()));
+    wm.start();
+    wm.stubFor(get("/large").willReturn(ok().withBodyFile("large.bin")));
+
+    WireMockResponse response = new WireMockTestClient(wm.port()).get("/large");
+
+    assertThat(response.statusCode(), is(200));
+    assertThat(response.binaryContent(), is(body));
+  }
+
+  @AfterEach
+  public void cleanup() {
+    if (wm != null) {
+      wm.stop();
+    }
+  }
+}
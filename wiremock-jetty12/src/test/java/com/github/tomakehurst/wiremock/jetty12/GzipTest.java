@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.jetty12;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.common.Gzip.unGzipToString;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static com.github.tomakehurst.wiremock.testsupport.TestHttpHeader.withHeader;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.testsupport.WireMockResponse;
+import com.github.tomakehurst.wiremock.testsupport.WireMockTestClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class GzipTest {
+
+  WireMockServer wm;
+  WireMockTestClient testClient;
+
+  @BeforeEach
+  public void init() {
+    wm = new WireMockServer(wireMockConfig().dynamicPort());
+    wm.start();
+    testClient = new WireMockTestClient(wm.port());
+  }
+
+  @Test
+  public void servesAStubsBodyGzippedOnEveryRequest() {
+    String bodyText = "{\"items\": [" + "\"item\",".repeat(200) + "\"last\"]}";
+    wm.stubFor(get("/json").willReturn(okJson(bodyText)));
+
+    for (int i = 0; i < 3; i++) {
+      WireMockResponse response = testClient.get("/json", withHeader("Accept-Encoding", "gzip"));
+      assertThat(response.firstHeader("Content-Encoding"), is("gzip"));
+      assertThat(unGzipToString(response.binaryContent()), is(bodyText));
+    }
+  }
+
+  @AfterEach
+  public void cleanup() {
+    wm.stop();
+  }
+}